@@ -0,0 +1,66 @@
+package com.jovia.dynamic.threadpool.benchmarks;
+
+import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveThreadPoolExecutor;
+import com.jovia.dynamic.threadpool.core.model.vo.QueueType;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准测试用线程池
+ * jdk-* 为原生 ThreadPoolExecutor 基线，adaptive-* 为对应队列引擎的自适应线程池；
+ * 两者线程数、队列容量与拒绝策略一致（队列满时由提交线程执行，避免压测中丢任务）
+ *
+ * @author Jay
+ * @date 2025-11-21-15:40
+ */
+final class BenchmarkPools {
+
+    static final int QUEUE_CAPACITY = 65536;
+
+    private BenchmarkPools() {
+    }
+
+    static ThreadPoolExecutor create(String pool, int threads) {
+        ThreadPoolExecutor.CallerRunsPolicy handler = new ThreadPoolExecutor.CallerRunsPolicy();
+        return switch (pool) {
+            case "jdk-linked" -> new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(QUEUE_CAPACITY), Executors.defaultThreadFactory(), handler);
+            case "jdk-array" -> new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY), Executors.defaultThreadFactory(), handler);
+            case "adaptive-linked" -> adaptive(QueueType.LINKED, threads, handler);
+            case "adaptive-array" -> adaptive(QueueType.ARRAY, threads, handler);
+            case "adaptive-priority" -> adaptive(QueueType.PRIORITY, threads, handler);
+            case "adaptive-mpmc" -> adaptive(QueueType.MPMC, threads, handler);
+            default -> throw new IllegalArgumentException("unknown pool: " + pool);
+        };
+    }
+
+    private static ThreadPoolExecutor adaptive(QueueType type, int threads, ThreadPoolExecutor.CallerRunsPolicy handler) {
+        return new AdaptiveThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, type, QUEUE_CAPACITY,
+                Executors.defaultThreadFactory(), handler);
+    }
+
+    static void shutdown(ThreadPoolExecutor executor) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 自旋指定微秒数，模拟 CPU 型任务；0 表示空任务
+     */
+    static void spin(long micros) {
+        if (micros <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + micros * 1000;
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jovia.dynamic.threadpool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 端到端吞吐：每次调用提交一批任务并等待全部执行完成，结果按单个任务计（ops/s）
+ * 对比原生 ThreadPoolExecutor 与各队列引擎的自适应线程池在不同任务耗时、生产者数下的开销。
+ * 分配率：java -jar target/benchmarks.jar ExecutorThroughputBenchmark -prof gc
+ *
+ * @author Jay
+ * @date 2025-11-21-15:52
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutorThroughputBenchmark {
+
+    static final int BATCH = 1000;
+
+    @State(Scope.Benchmark)
+    public static class PoolState {
+
+        @Param({"jdk-linked", "jdk-array", "adaptive-linked", "adaptive-array", "adaptive-priority", "adaptive-mpmc"})
+        public String pool;
+
+        // 任务耗时（微秒）
+        @Param({"0", "1", "100"})
+        public long taskMicros;
+
+        ThreadPoolExecutor executor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            executor = BenchmarkPools.create(pool, Runtime.getRuntime().availableProcessors());
+            executor.prestartAllCoreThreads();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws InterruptedException {
+            BenchmarkPools.shutdown(executor);
+        }
+    }
+
+    // 每个生产者线程独立的完成计数，避免生产者之间互相等待
+    @State(Scope.Thread)
+    public static class BatchState {
+        final AtomicInteger remaining = new AtomicInteger();
+    }
+
+    private static void submitBatch(PoolState pool, BatchState batch) {
+        long micros = pool.taskMicros;
+        AtomicInteger remaining = batch.remaining;
+        remaining.set(BATCH);
+        Runnable task = () -> {
+            BenchmarkPools.spin(micros);
+            remaining.decrementAndGet();
+        };
+        for (int i = 0; i < BATCH; i++) {
+            pool.executor.execute(task);
+        }
+        while (remaining.get() > 0) {
+            LockSupport.parkNanos(1000);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(BATCH)
+    public void producers1(PoolState pool, BatchState batch) {
+        submitBatch(pool, batch);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(BATCH)
+    public void producers4(PoolState pool, BatchState batch) {
+        submitBatch(pool, batch);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @OperationsPerInvocation(BATCH)
+    public void producers16(PoolState pool, BatchState batch) {
+        submitBatch(pool, batch);
+    }
+}
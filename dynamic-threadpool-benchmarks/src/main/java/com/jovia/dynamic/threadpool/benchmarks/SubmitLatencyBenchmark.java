@@ -0,0 +1,59 @@
+package com.jovia.dynamic.threadpool.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 提交延迟：只测量 execute 调用本身（包装、入队、唤醒工作线程）的耗时分布，输出 p50/p99/p99.9
+ * 工作线程执行空任务，队列通常处于低水位；队列满时由提交线程执行任务，会体现为长尾。
+ *
+ * @author Jay
+ * @date 2025-11-21-16:05
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubmitLatencyBenchmark {
+
+    private static final Runnable EMPTY = () -> {
+    };
+
+    @Param({"jdk-linked", "jdk-array", "adaptive-linked", "adaptive-array", "adaptive-priority", "adaptive-mpmc"})
+    public String pool;
+
+    private ThreadPoolExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = BenchmarkPools.create(pool, Runtime.getRuntime().availableProcessors());
+        executor.prestartAllCoreThreads();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        BenchmarkPools.shutdown(executor);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void producers1() {
+        executor.execute(EMPTY);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void producers4() {
+        executor.execute(EMPTY);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void producers16() {
+        executor.execute(EMPTY);
+    }
+}
@@ -1,13 +1,21 @@
 package com.jovia.dynamic.threadpool.core.config;
 
 import com.alibaba.fastjson.JSON;
+import com.jovia.dynamic.threadpool.core.domain.metrics.AdaptiveThreadPoolMeterBinder;
+import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveForkJoinExecutor;
 import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveThreadPoolExecutor;
+import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveThreadPoolStarter;
+import com.jovia.dynamic.threadpool.core.domain.pool.ThreadPoolControlLoop;
+import com.jovia.dynamic.threadpool.core.domain.pool.ThreadPoolWrappingPostProcessor;
+import com.jovia.dynamic.threadpool.core.domain.pool.VirtualThreadPoolExecutor;
 import com.jovia.dynamic.threadpool.core.service.DynamicThreadPoolService;
 import com.jovia.dynamic.threadpool.core.service.IDynamicThreadPoolService;
 import com.jovia.dynamic.threadpool.core.utils.SystemMetricsMonitor;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -15,9 +23,12 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -41,15 +52,54 @@ public class AdaptiveThreadPoolAutoConfig {
         SystemMetricsMonitor.start(1000);
     }
 
+    /**
+     * 静态声明，保证在普通 Bean 创建前注册，已有的线程池 Bean 才能被接管
+     */
     @Bean
-    @ConditionalOnBean(ThreadPoolExecutor.class)
-    public IDynamicThreadPoolService dynamicThreadPoolService(Map<String, AdaptiveThreadPoolExecutor> threadPoolExecutorMap) {
+    @ConditionalOnProperty(prefix = "adaptive.thread.pool", name = "wrap-existing", havingValue = "true", matchIfMissing = true)
+    public static ThreadPoolWrappingPostProcessor threadPoolWrappingPostProcessor() {
+        return new ThreadPoolWrappingPostProcessor();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnBean(Executor.class)
+    public IDynamicThreadPoolService dynamicThreadPoolService() {
+        Map<String, AdaptiveThreadPoolExecutor> threadPoolExecutorMap = AdaptiveThreadPoolStarter.collectExecutors(applicationContext);
+        Map<String, AdaptiveForkJoinExecutor> forkJoinExecutorMap = AdaptiveThreadPoolStarter.collectForkJoinExecutors(applicationContext);
+        Map<String, ScheduledThreadPoolExecutor> scheduledExecutorMap = AdaptiveThreadPoolStarter.collectScheduledExecutors(applicationContext);
+        Map<String, VirtualThreadPoolExecutor> virtualExecutorMap = AdaptiveThreadPoolStarter.collectVirtualExecutors(applicationContext);
         String appName = applicationContext.getEnvironment().getProperty("spring.application.name");
         if (StringUtils.isBlank(appName)) {
             throw new IllegalStateException("[DynamicThreadPool] 启动失败：未配置 spring.application.name，请在 application.yml 中配置。");
         }
-        log.info("线程池信息:{}", JSON.toJSONString(threadPoolExecutorMap.keySet()));
-        return new DynamicThreadPoolService(appName, threadPoolExecutorMap);
+        log.info("线程池信息:{}, ForkJoin:{}, 定时线程池:{}, 虚拟线程:{}", JSON.toJSONString(threadPoolExecutorMap.keySet()),
+                JSON.toJSONString(forkJoinExecutorMap.keySet()), JSON.toJSONString(scheduledExecutorMap.keySet()),
+                JSON.toJSONString(virtualExecutorMap.keySet()));
+        return new DynamicThreadPoolService(appName, threadPoolExecutorMap, forkJoinExecutorMap, scheduledExecutorMap, virtualExecutorMap);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolControlLoop threadPoolControlLoop() {
+        return new ThreadPoolControlLoop();
+    }
+
+    @Bean
+    public AdaptiveThreadPoolStarter adaptiveThreadPoolStarter(ThreadPoolControlLoop threadPoolControlLoop) {
+        return new AdaptiveThreadPoolStarter(threadPoolControlLoop);
+    }
+
+    /**
+     * 引入 Micrometer 时导出线程池指标，由 Spring Boot 自动绑定到 MeterRegistry。
+     * 独立成内部配置类，未引入 Micrometer 时不会加载 MeterBinder
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class MeterBinderConfiguration {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "adaptive.thread.pool", name = "metrics-enabled", havingValue = "true", matchIfMissing = true)
+        public AdaptiveThreadPoolMeterBinder adaptiveThreadPoolMeterBinder(ObjectProvider<IDynamicThreadPoolService> dynamicThreadPoolService) {
+            return new AdaptiveThreadPoolMeterBinder(dynamicThreadPoolService::getIfAvailable);
+        }
     }
-    
 }
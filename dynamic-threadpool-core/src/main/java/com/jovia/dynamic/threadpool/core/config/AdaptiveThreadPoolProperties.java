@@ -20,5 +20,15 @@ public class AdaptiveThreadPoolProperties {
      * 配置中心选择
      */
     private String configCenter;
+
+    /**
+     * 是否将容器中已有的 ThreadPoolExecutor / ThreadPoolTaskExecutor 替换为自适应线程池
+     */
+    private boolean wrapExisting = true;
+
+    /**
+     * 引入 Micrometer 时是否导出线程池指标
+     */
+    private boolean metricsEnabled = true;
     
 }
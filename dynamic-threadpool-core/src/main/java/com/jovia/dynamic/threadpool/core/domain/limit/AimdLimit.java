@@ -0,0 +1,49 @@
+package com.jovia.dynamic.threadpool.core.domain.limit;
+
+/**
+ * 加性增、乘性减（AIMD）
+ * RTT 超过基线的容忍倍数视为拥塞，上限按退避系数乘性收缩；否则在有需求时加 1。
+ * 基线见 {@link ConcurrencyLimit#baselineRtt}
+ *
+ * @author Jay
+ * @date 2025-11-23-10:12
+ */
+public class AimdLimit implements ConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private int limit;
+    private double baselineRtt = 0.0;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double rttTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int update(LimitSample sample) {
+        long rtt = sample.getRttNanos();
+        if (rtt <= 0) {
+            return limit;
+        }
+        baselineRtt = ConcurrencyLimit.baselineRtt(baselineRtt, rtt,
+                !sample.hasDemand(limit) || limit <= minLimit);
+
+        if (rtt > baselineRtt * rttTolerance) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (sample.hasDemand(limit)) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        return limit;
+    }
+}
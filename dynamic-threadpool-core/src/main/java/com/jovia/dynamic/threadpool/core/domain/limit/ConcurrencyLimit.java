@@ -0,0 +1,35 @@
+package com.jovia.dynamic.threadpool.core.domain.limit;
+
+/**
+ * 并发上限算法
+ * 借鉴 TCP 拥塞控制，按每个调整周期的任务耗时（RTT）与排队信号推算线程池能承受的并发，
+ * 下游变慢时自动收敛到其真实容量。实现类只由控制循环在持有调整锁时调用，无需考虑并发
+ *
+ * @author Jay
+ * @date 2025-11-23-10:05
+ */
+public interface ConcurrencyLimit {
+
+    int getLimit();
+
+    /**
+     * 根据一个调整周期的采样更新并返回新的并发上限
+     */
+    int update(LimitSample sample);
+
+    /**
+     * 更新无负载基线 RTT：取观测到的最小值；本周期不拥塞（没有超出上限的需求，或上限已退到最小值）时直接采用本周期 RTT。
+     * 基线只能由不拥塞的样本抬升，否则会追随线程池自身造成的排队，上限随之无限增长；
+     * 下游长期变慢时，上限退到最小值后基线即可跟上
+     */
+    static double baselineRtt(double baseline, double rtt, boolean uncongested) {
+        return baseline == 0.0 || rtt < baseline || uncongested ? rtt : baseline;
+    }
+
+    /**
+     * 接近 log10(limit)，至少为 1，用于随上限增长的步长与阈值
+     */
+    static double log10Root(double limit) {
+        return Math.max(1.0, Math.log10(limit));
+    }
+}
@@ -0,0 +1,37 @@
+package com.jovia.dynamic.threadpool.core.domain.limit;
+
+import com.jovia.dynamic.threadpool.core.model.vo.AdjustMode;
+import com.jovia.dynamic.threadpool.core.model.vo.AutoAdjustConfig;
+
+/**
+ * 并发上限算法工厂
+ *
+ * @author Jay
+ * @date 2025-11-23-10:40
+ */
+public final class ConcurrencyLimitFactory {
+
+    private ConcurrencyLimitFactory() {
+    }
+
+    /**
+     * 按调整模式创建算法，上限范围为 [minConcurrencyLimit, maxMaximumPoolSize]；非并发上限模式返回 null
+     */
+    public static ConcurrencyLimit create(AdjustMode mode, int initialLimit, AutoAdjustConfig config) {
+        return create(mode, initialLimit, config, config.getMaxMaximumPoolSize());
+    }
+
+    /**
+     * 按调整模式创建算法，上限范围为 [minConcurrencyLimit, ceiling]
+     */
+    public static ConcurrencyLimit create(AdjustMode mode, int initialLimit, AutoAdjustConfig config, int ceiling) {
+        int minLimit = Math.max(1, config.getMinConcurrencyLimit());
+        int maxLimit = Math.max(minLimit, ceiling);
+        return switch (mode) {
+            case AIMD -> new AimdLimit(initialLimit, minLimit, maxLimit, config.getAimdBackoffRatio(), config.getRttTolerance());
+            case VEGAS -> new VegasLimit(initialLimit, minLimit, maxLimit, config.getRttTolerance());
+            case GRADIENT -> new GradientLimit(initialLimit, minLimit, maxLimit, config.getRttTolerance());
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.jovia.dynamic.threadpool.core.domain.limit;
+
+/**
+ * 梯度算法
+ * 比较基线 RTT 与本周期 RTT：梯度 = clamp(容忍倍数 × 基线 / 本周期, 0.5, 1)，容忍倍数取 rttTolerance，
+ * 新上限 = 上限 × 梯度 + sqrt(上限)，再与旧值平滑。RTT 平稳时按 sqrt(上限) 增长，变慢时按比例收缩，
+ * 稳定在 RTT 约为基线容忍倍数的位置。基线见 {@link ConcurrencyLimit#baselineRtt}
+ *
+ * @author Jay
+ * @date 2025-11-23-10:30
+ */
+public class GradientLimit implements ConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private double limit;
+    private double baselineRtt = 0.0;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int update(LimitSample sample) {
+        double shortRtt = sample.getRttNanos();
+        if (shortRtt <= 0) {
+            return getLimit();
+        }
+        baselineRtt = ConcurrencyLimit.baselineRtt(baselineRtt, shortRtt,
+                !sample.hasDemand(getLimit()) || getLimit() <= minLimit);
+        // 需求不足时不增长，避免上限在空闲期虚高
+        if (!sample.hasDemand(getLimit())) {
+            return getLimit();
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * baselineRtt / shortRtt));
+        double next = limit * gradient + Math.sqrt(limit);
+        next = limit * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(next, maxLimit));
+        return getLimit();
+    }
+}
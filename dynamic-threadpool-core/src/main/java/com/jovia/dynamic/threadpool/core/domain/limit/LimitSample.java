@@ -0,0 +1,32 @@
+package com.jovia.dynamic.threadpool.core.domain.limit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 一个调整周期内的并发采样
+ *
+ * @author Jay
+ * @date 2025-11-23-10:08
+ */
+@Getter
+@AllArgsConstructor
+public class LimitSample {
+
+    /** 本周期完成任务的平均执行时间（纳秒），没有任务完成时为 0 */
+    private final long rttNanos;
+    /** 本周期出队任务的平均排队时间（纳秒） */
+    private final long queueWaitNanos;
+    /** 本周期的峰值活跃线程数 */
+    private final int inflight;
+    /** 当前排队任务数 */
+    private final int queueSize;
+
+    /**
+     * 是否存在超出当前上限的需求：有任务排队，或活跃线程达到上限的一半。
+     * 需求不足时 RTT 无法反映容量，各算法都不增长上限
+     */
+    public boolean hasDemand(int limit) {
+        return queueSize > 0 || inflight * 2 >= limit;
+    }
+}
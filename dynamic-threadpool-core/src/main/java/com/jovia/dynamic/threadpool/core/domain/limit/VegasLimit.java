@@ -0,0 +1,57 @@
+package com.jovia.dynamic.threadpool.core.domain.limit;
+
+/**
+ * TCP Vegas
+ * 以无负载 RTT 为基线估算下游排队量 queue = limit × (1 - rttNoLoad / rtt)：
+ * 排队低于 alpha 时增长，高于 beta 时收缩，介于两者之间保持不变。
+ * alpha、beta 与步长都随 log10(limit) 增长；RTT 超过基线的 rttTolerance 倍时无论估算排队多少都收缩，
+ * 避免上限较小时排队估算偏低而忽视明显变慢。基线见 {@link ConcurrencyLimit#baselineRtt}
+ *
+ * @author Jay
+ * @date 2025-11-23-10:20
+ */
+public class VegasLimit implements ConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private double limit;
+    private double rttNoLoad = 0.0;
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public int update(LimitSample sample) {
+        long rtt = sample.getRttNanos();
+        if (rtt <= 0) {
+            return getLimit();
+        }
+        rttNoLoad = ConcurrencyLimit.baselineRtt(rttNoLoad, rtt,
+                !sample.hasDemand(getLimit()) || getLimit() <= minLimit);
+
+        double log = ConcurrencyLimit.log10Root(limit);
+        double queue = Math.ceil(limit * (1 - rttNoLoad / rtt));
+        double alpha = 3 * log;
+        double beta = 6 * log;
+        double next = limit;
+        if (rtt > rttNoLoad * rttTolerance || queue > beta) {
+            next = limit - log;
+        } else if (queue <= log) {
+            next = sample.hasDemand(getLimit()) ? limit + beta : limit;
+        } else if (queue < alpha) {
+            next = sample.hasDemand(getLimit()) ? limit + log : limit;
+        }
+        limit = Math.max(minLimit, Math.min(next, maxLimit));
+        return getLimit();
+    }
+}
@@ -0,0 +1,133 @@
+package com.jovia.dynamic.threadpool.core.domain.metrics;
+
+import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveForkJoinExecutor;
+import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveThreadPoolExecutor;
+import com.jovia.dynamic.threadpool.core.domain.pool.VirtualThreadPoolExecutor;
+import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolContext;
+import com.jovia.dynamic.threadpool.core.service.IDynamicThreadPoolService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 将每个自适应线程池的运行指标导出到 Micrometer
+ * 所有指标都是抓取时回调执行器的读方法，任务执行路径上不做任何复制或额外记录
+ *
+ * @author Jay
+ * @date 2025-11-22-15:40
+ */
+@Slf4j
+public class AdaptiveThreadPoolMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "adaptive.thread.pool.";
+
+    private final Supplier<IDynamicThreadPoolService> serviceSupplier;
+
+    public AdaptiveThreadPoolMeterBinder(Supplier<IDynamicThreadPoolService> serviceSupplier) {
+        this.serviceSupplier = serviceSupplier;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        IDynamicThreadPoolService service = serviceSupplier.get();
+        if (service == null) {
+            log.info("[动态线程池] 未创建动态线程池服务，跳过 Micrometer 指标注册");
+            return;
+        }
+        for (ThreadPoolContext context : service.queryAllThreadPools()) {
+            bind(registry, context.getThreadPoolExecutor(),
+                    Tags.of(Tag.of("pool", context.getThreadPoolName()), Tag.of("app", context.getAppName())));
+        }
+        service.queryForkJoinPools().forEach((poolName, executor) -> bind(registry, executor,
+                Tags.of(Tag.of("pool", poolName), Tag.of("app", service.collectMetrics(poolName).getAppName()))));
+        service.queryScheduledPools().forEach((poolName, executor) -> bind(registry, executor,
+                Tags.of(Tag.of("pool", poolName), Tag.of("app", service.collectMetrics(poolName).getAppName()))));
+        service.queryVirtualPools().forEach((poolName, executor) -> bind(registry, executor,
+                Tags.of(Tag.of("pool", poolName), Tag.of("app", service.collectMetrics(poolName).getAppName()))));
+    }
+
+    private void bind(MeterRegistry registry, VirtualThreadPoolExecutor executor, Tags tags) {
+        Gauge.builder(PREFIX + "queue.size", executor, VirtualThreadPoolExecutor::getQueueSize)
+                .tags(tags).description("等待并发许可的提交线程数").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "active", executor, VirtualThreadPoolExecutor::getActiveCount)
+                .tags(tags).description("执行中的任务数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "max.size", executor, VirtualThreadPoolExecutor::getMaximumPoolSize)
+                .tags(tags).description("并发上限").baseUnit("threads").register(registry);
+        FunctionCounter.builder(PREFIX + "rejected", executor, VirtualThreadPoolExecutor::getRejectedExecutionCount)
+                .tags(tags).description("累计拒绝任务数").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "rejected.rate", executor, VirtualThreadPoolExecutor::getRecentRejectionRate)
+                .tags(tags).description("最近 10 秒平均每秒拒绝次数").baseUnit("tasks").register(registry);
+        FunctionCounter.builder(PREFIX + "completed", executor, VirtualThreadPoolExecutor::getCompletedTaskCount)
+                .tags(tags).description("累计完成任务数").baseUnit("tasks").register(registry);
+    }
+
+    private void bind(MeterRegistry registry, ScheduledThreadPoolExecutor executor, Tags tags) {
+        Gauge.builder(PREFIX + "queue.size", executor, e -> e.getQueue().size())
+                .tags(tags).description("排队任务数（含未到期的定时任务）").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "active", executor, ScheduledThreadPoolExecutor::getActiveCount)
+                .tags(tags).description("活跃线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "pool.size", executor, ScheduledThreadPoolExecutor::getPoolSize)
+                .tags(tags).description("当前线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "core.size", executor, ScheduledThreadPoolExecutor::getCorePoolSize)
+                .tags(tags).description("核心线程数").baseUnit("threads").register(registry);
+        FunctionCounter.builder(PREFIX + "completed", executor, ScheduledThreadPoolExecutor::getCompletedTaskCount)
+                .tags(tags).description("累计完成任务数").baseUnit("tasks").register(registry);
+    }
+
+    private void bind(MeterRegistry registry, AdaptiveForkJoinExecutor executor, Tags tags) {
+        Gauge.builder(PREFIX + "parallelism", executor, AdaptiveForkJoinExecutor::getParallelism)
+                .tags(tags).description("ForkJoin 并行度").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "active", executor, AdaptiveForkJoinExecutor::getActiveThreadCount)
+                .tags(tags).description("活跃线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "running", executor, AdaptiveForkJoinExecutor::getRunningThreadCount)
+                .tags(tags).description("未阻塞的工作线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "pool.size", executor, AdaptiveForkJoinExecutor::getPoolSize)
+                .tags(tags).description("当前线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "queue.size", executor, e -> e.getQueuedSubmissionCount() + e.getQueuedTaskCount())
+                .tags(tags).description("排队任务数").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "queued.submissions", executor, AdaptiveForkJoinExecutor::getQueuedSubmissionCount)
+                .tags(tags).description("外部提交尚未被领取的任务数").baseUnit("tasks").register(registry);
+        FunctionCounter.builder(PREFIX + "steals", executor, AdaptiveForkJoinExecutor::getStealCount)
+                .tags(tags).description("累计工作窃取次数").baseUnit("tasks").register(registry);
+    }
+
+    private void bind(MeterRegistry registry, AdaptiveThreadPoolExecutor executor, Tags tags) {
+        Gauge.builder(PREFIX + "queue.size", executor, AdaptiveThreadPoolExecutor::getQueueSize)
+                .tags(tags).description("排队任务数").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "queue.capacity", executor, AdaptiveThreadPoolExecutor::getQueueCapacity)
+                .tags(tags).description("队列容量").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "active", executor, AdaptiveThreadPoolExecutor::getActiveCount)
+                .tags(tags).description("活跃线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "pool.size", executor, AdaptiveThreadPoolExecutor::getPoolSize)
+                .tags(tags).description("当前线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "core.size", executor, AdaptiveThreadPoolExecutor::getCorePoolSize)
+                .tags(tags).description("核心线程数").baseUnit("threads").register(registry);
+        Gauge.builder(PREFIX + "max.size", executor, AdaptiveThreadPoolExecutor::getMaximumPoolSize)
+                .tags(tags).description("最大线程数").baseUnit("threads").register(registry);
+
+        FunctionCounter.builder(PREFIX + "rejected", executor, AdaptiveThreadPoolExecutor::getRejectedExecutionCount)
+                .tags(tags).description("累计拒绝任务数").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "rejected.rate", executor, AdaptiveThreadPoolExecutor::getRecentRejectionRate)
+                .tags(tags).description("最近 10 秒平均每秒拒绝次数").baseUnit("tasks").register(registry);
+        Gauge.builder(PREFIX + "overflow.size", executor, AdaptiveThreadPoolExecutor::getOverflowSize)
+                .tags(tags).description("溢出缓冲区中等待回填的任务数").baseUnit("tasks").register(registry);
+        FunctionCounter.builder(PREFIX + "expired", executor, AdaptiveThreadPoolExecutor::getExpiredCount)
+                .tags(tags).description("排队超过截止时间未执行的任务数").baseUnit("tasks").register(registry);
+        FunctionCounter.builder(PREFIX + "completed", executor, AdaptiveThreadPoolExecutor::getCompletedTaskCount)
+                .tags(tags).description("累计完成任务数").baseUnit("tasks").register(registry);
+
+        TimeGauge.builder(PREFIX + "queue.wait.ewma", executor, TimeUnit.MILLISECONDS, AdaptiveThreadPoolExecutor::getWaitTime)
+                .tags(tags).description("EWMA 平滑后的队列等待时间").register(registry);
+        TimeGauge.builder(PREFIX + "task.time.ewma", executor, TimeUnit.MILLISECONDS, AdaptiveThreadPoolExecutor::getExecTime)
+                .tags(tags).description("EWMA 平滑后的任务执行时间").register(registry);
+    }
+}
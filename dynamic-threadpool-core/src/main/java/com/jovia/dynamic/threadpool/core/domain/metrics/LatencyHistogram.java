@@ -0,0 +1,98 @@
+package com.jovia.dynamic.threadpool.core.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 对数分桶延迟直方图（HdrHistogram 思路）
+ * 每个 2 的幂区间再线性切分为 32 个子桶，相对误差约 3%，覆盖 0 ~ 2^40 纳秒（约 18 分钟），超出部分计入最后一个桶。
+ * 内存固定，记录路径只有一次原子自增，无锁、无分配。
+ * 计数只增不减，{@link #rotate()} 通过与上次快照求差得到区间分布，记录方与轮转方互不阻塞。
+ *
+ * @author Jay
+ * @date 2025-11-18-20:41
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 39;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    // 以下字段仅由轮转线程访问
+    private final long[] lastCounts = new long[BUCKET_COUNT];
+    private final long[] intervalCounts = new long[BUCKET_COUNT];
+
+    /**
+     * 记录一次耗时（纳秒）
+     */
+    public void record(long nanos) {
+        counts.getAndIncrement(bucketIndex(nanos));
+    }
+
+    /**
+     * 轮转统计窗口：返回自上次轮转以来的分位数快照。仅允许单线程调用
+     */
+    public LatencySnapshot rotate() {
+        long total = 0L;
+        int highest = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long current = counts.get(i);
+            long delta = current - lastCounts[i];
+            lastCounts[i] = current;
+            intervalCounts[i] = delta;
+            if (delta > 0) {
+                total += delta;
+                highest = i;
+            }
+        }
+        if (total == 0) {
+            return LatencySnapshot.EMPTY;
+        }
+        return new LatencySnapshot(total,
+                valueAtPercentile(total, 0.50),
+                valueAtPercentile(total, 0.99),
+                valueAtPercentile(total, 0.999),
+                toMillis(highestValue(highest)));
+    }
+
+    private double valueAtPercentile(long total, double percentile) {
+        long target = Math.max(1L, (long) Math.ceil(total * percentile));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += intervalCounts[i];
+            if (seen >= target) {
+                return toMillis(highestValue(i));
+            }
+        }
+        return toMillis(MAX_VALUE);
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return nanos <= 0 ? 0 : (int) nanos;
+        }
+        long value = Math.min(nanos, MAX_VALUE);
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    // 桶内最大值，分位数取桶上界，偏保守
+    static long highestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lowest = (1L << exponent) | ((long) subBucket << shift);
+        return lowest + (1L << shift) - 1;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
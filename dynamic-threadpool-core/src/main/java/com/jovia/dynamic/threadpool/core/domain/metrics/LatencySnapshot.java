@@ -0,0 +1,23 @@
+package com.jovia.dynamic.threadpool.core.domain.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 直方图某个统计窗口内的分位数快照（ms）
+ *
+ * @author Jay
+ * @date 2025-11-18-20:43
+ */
+@Getter
+@AllArgsConstructor
+public class LatencySnapshot {
+
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(0L, 0.0, 0.0, 0.0, 0.0);
+
+    private final long count;
+    private final double p50;
+    private final double p99;
+    private final double p999;
+    private final double max;
+}
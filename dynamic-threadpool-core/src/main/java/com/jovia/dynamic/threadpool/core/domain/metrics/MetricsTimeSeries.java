@@ -0,0 +1,200 @@
+package com.jovia.dynamic.threadpool.core.domain.metrics;
+
+import com.jovia.dynamic.threadpool.core.model.entity.MetricAggregate;
+import com.jovia.dynamic.threadpool.core.model.entity.MetricPoint;
+import com.jovia.dynamic.threadpool.core.model.vo.MetricResolution;
+import com.jovia.dynamic.threadpool.core.model.vo.MetricSeries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 单个线程池的时序指标环形缓冲
+ * 每个精度一组定长基本类型数组，写满后覆盖最旧的数据点；每次采样同时合并进所有精度的当前数据点，
+ * 降采样不需要额外的汇总任务。内存在构造时一次分配，与运行时长无关。
+ * 写入只来自控制循环线程，查询可来自任意线程，两者用对象锁互斥，临界区只有数组读写。
+ *
+ * @author Jay
+ * @date 2025-11-22-14:20
+ */
+public class MetricsTimeSeries {
+
+    private static final int FIELDS = MetricSeries.values().length;
+
+    private final Tier[] tiers;
+
+    public MetricsTimeSeries() {
+        MetricResolution[] resolutions = MetricResolution.values();
+        this.tiers = new Tier[resolutions.length];
+        for (MetricResolution resolution : resolutions) {
+            tiers[resolution.ordinal()] = new Tier(resolution);
+        }
+    }
+
+    /**
+     * 记录一次采样
+     *
+     * @param values 按 {@link MetricSeries} 顺序排列的指标值
+     */
+    public synchronized void record(long timestampMs, double[] values) {
+        if (values.length != FIELDS) {
+            throw new IllegalArgumentException("values length must be " + FIELDS);
+        }
+        for (Tier tier : tiers) {
+            tier.record(timestampMs, values);
+        }
+    }
+
+    /**
+     * 按时间升序返回指定精度下落在 [fromMs, toMs] 内的数据点
+     */
+    public synchronized List<MetricPoint> query(MetricSeries series, MetricResolution resolution, long fromMs, long toMs) {
+        return tiers[resolution.ordinal()].query(series.ordinal(), fromMs, toMs);
+    }
+
+    /**
+     * 聚合 [fromMs, toMs] 内的指标，自动选择能覆盖起始时间的最细精度
+     */
+    public synchronized MetricAggregate aggregate(MetricSeries series, long fromMs, long toMs) {
+        Tier tier = tiers[tiers.length - 1];
+        for (Tier candidate : tiers) {
+            if (candidate.covers(fromMs)) {
+                tier = candidate;
+                break;
+            }
+        }
+        List<MetricPoint> points = tier.query(series.ordinal(), fromMs, toMs);
+
+        MetricAggregate.MetricAggregateBuilder builder = MetricAggregate.builder()
+                .series(series.desc)
+                .resolution(tier.resolution.desc)
+                .from(fromMs)
+                .to(toMs);
+        if (points.isEmpty()) {
+            return builder.build();
+        }
+
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        double sum = 0.0;
+        int samples = 0;
+        for (MetricPoint point : points) {
+            min = Math.min(min, point.getMin());
+            max = Math.max(max, point.getMax());
+            sum += point.getAvg() * point.getSamples();
+            samples += point.getSamples();
+        }
+        return builder.min(min)
+                .max(max)
+                .avg(sum / samples)
+                .last(points.get(points.size() - 1).getAvg())
+                .slopePerMinute(slopePerMinute(points))
+                .samples(samples)
+                .build();
+    }
+
+    // 最小二乘拟合，时间以首个数据点为原点，避免大数相乘损失精度
+    private static double slopePerMinute(List<MetricPoint> points) {
+        int n = points.size();
+        if (n < 2) {
+            return 0.0;
+        }
+        long origin = points.get(0).getTimestamp();
+        double meanX = 0.0;
+        double meanY = 0.0;
+        for (MetricPoint point : points) {
+            meanX += (point.getTimestamp() - origin) / 60_000.0;
+            meanY += point.getAvg();
+        }
+        meanX /= n;
+        meanY /= n;
+        double covariance = 0.0;
+        double variance = 0.0;
+        for (MetricPoint point : points) {
+            double dx = (point.getTimestamp() - origin) / 60_000.0 - meanX;
+            covariance += dx * (point.getAvg() - meanY);
+            variance += dx * dx;
+        }
+        return variance == 0.0 ? 0.0 : covariance / variance;
+    }
+
+    /**
+     * 一种精度的环形缓冲：第 i 个数据点第 f 项指标的统计值位于下标 i * FIELDS + f
+     */
+    private static final class Tier {
+
+        private final MetricResolution resolution;
+        private final long[] starts;
+        private final int[] counts;
+        private final double[] min;
+        private final double[] max;
+        private final double[] sum;
+        // 当前写入的数据点，-1 表示尚无数据
+        private int head = -1;
+
+        Tier(MetricResolution resolution) {
+            this.resolution = resolution;
+            this.starts = new long[resolution.slots];
+            this.counts = new int[resolution.slots];
+            this.min = new double[resolution.slots * FIELDS];
+            this.max = new double[resolution.slots * FIELDS];
+            this.sum = new double[resolution.slots * FIELDS];
+        }
+
+        void record(long timestampMs, double[] values) {
+            long start = timestampMs - Math.floorMod(timestampMs, resolution.slotMillis);
+            // 时钟回拨时并入当前数据点，保证缓冲内时间单调
+            if (head < 0 || start > starts[head]) {
+                head = head < 0 ? 0 : (head + 1) % resolution.slots;
+                starts[head] = start;
+                counts[head] = 0;
+            }
+            int base = head * FIELDS;
+            boolean first = counts[head] == 0;
+            for (int f = 0; f < FIELDS; f++) {
+                double v = values[f];
+                if (first) {
+                    min[base + f] = v;
+                    max[base + f] = v;
+                    sum[base + f] = v;
+                } else {
+                    min[base + f] = Math.min(min[base + f], v);
+                    max[base + f] = Math.max(max[base + f], v);
+                    sum[base + f] += v;
+                }
+            }
+            counts[head]++;
+        }
+
+        // 最旧的有效数据点不晚于 fromMs 时，说明该精度覆盖了整个查询范围
+        boolean covers(long fromMs) {
+            if (head < 0) {
+                return false;
+            }
+            int oldest = counts[(head + 1) % resolution.slots] > 0 ? (head + 1) % resolution.slots : 0;
+            return starts[oldest] <= fromMs;
+        }
+
+        List<MetricPoint> query(int field, long fromMs, long toMs) {
+            if (head < 0 || fromMs > toMs) {
+                return Collections.emptyList();
+            }
+            List<MetricPoint> points = new ArrayList<>();
+            // 从最新往回遍历，数据点按时间单调递减
+            for (int k = 0; k < resolution.slots; k++) {
+                int i = Math.floorMod(head - k, resolution.slots);
+                if (counts[i] == 0 || starts[i] + resolution.slotMillis <= fromMs) {
+                    break;
+                }
+                if (starts[i] > toMs) {
+                    continue;
+                }
+                int idx = i * FIELDS + field;
+                points.add(new MetricPoint(starts[i], min[idx], max[idx], sum[idx] / counts[i], counts[i]));
+            }
+            Collections.reverse(points);
+            return points;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.jovia.dynamic.threadpool.core.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 滑动窗口计数器
+ * 窗口按固定时长分桶，桶按时间循环复用，统计最近一个窗口内的事件速率；过期的桶在下次写入或读取时自然忽略。
+ * 过载时拒绝是热路径，写入无锁：每个桶用 LongAdder 分段计数，进入新时间段时以 CAS 换上新桶，
+ * 只有每个时间段的首次写入需要分配。
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+public class SlidingWindowCounter {
+
+    private final long bucketMs;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public SlidingWindowCounter(int buckets, long bucketMs) {
+        this.bucketMs = bucketMs;
+        this.buckets = new AtomicReferenceArray<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            this.buckets.set(i, new Bucket(Long.MIN_VALUE));
+        }
+    }
+
+    public void increment(long nowMs) {
+        long start = nowMs - nowMs % bucketMs;
+        int i = (int) ((nowMs / bucketMs) % buckets.length());
+        Bucket bucket = buckets.get(i);
+        if (bucket.start != start) {
+            // 并发换桶时只有一个线程成功，其余线程重新读取，计数都落在同一个新桶
+            Bucket fresh = new Bucket(start);
+            bucket = buckets.compareAndSet(i, bucket, fresh) ? fresh : buckets.get(i);
+        }
+        bucket.count.increment();
+    }
+
+    /**
+     * 最近一个窗口内的平均每秒事件数
+     */
+    public double ratePerSecond(long nowMs) {
+        long windowMs = bucketMs * buckets.length();
+        long sum = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket.start != Long.MIN_VALUE && nowMs - bucket.start < windowMs) {
+                sum += bucket.count.sum();
+            }
+        }
+        return sum * 1000.0 / windowMs;
+    }
+
+    // 桶的时间段起点不可变，换时间段时整体替换
+    private static final class Bucket {
+        final long start;
+        final LongAdder count = new LongAdder();
+
+        Bucket(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jovia.dynamic.threadpool.core.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 分段耗时累加器
+ * 按线程 id 散列到独立槽位累加纳秒数和次数，思路同 LongAdder：记录路径无分配、无锁、不丢更新。
+ * 只提供单调递增的累计值，由采样方自行保存上次快照求差。
+ *
+ * @author Jay
+ * @date 2025-11-17-21:05
+ */
+public class StripedTimeAccumulator {
+
+    // 每个槽位占 16 个 long（128 字节），sum/count 共用一个缓存行，槽位之间互不伪共享
+    private static final int STRIDE = 16;
+    private static final int MAX_CELLS = 64;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+
+    public StripedTimeAccumulator() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public StripedTimeAccumulator(int expectedThreads) {
+        int size = 1;
+        while (size < Math.min(expectedThreads, MAX_CELLS)) {
+            size <<= 1;
+        }
+        this.cells = new AtomicLongArray(size * STRIDE);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 记录一次耗时
+     */
+    public void record(long nanos) {
+        int base = index() * STRIDE;
+        cells.getAndAdd(base, nanos);
+        cells.getAndIncrement(base + 1);
+    }
+
+    /**
+     * 累计耗时（纳秒）
+     */
+    public long sumNanos() {
+        long sum = 0L;
+        for (int i = 0; i < cells.length(); i += STRIDE) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+
+    /**
+     * 累计次数
+     */
+    public long count() {
+        long count = 0L;
+        for (int i = 1; i < cells.length(); i += STRIDE) {
+            count += cells.get(i);
+        }
+        return count;
+    }
+
+    private int index() {
+        long id = Thread.currentThread().getId();
+        // 线程 id 通常连续，混淆后再取模，避免相邻 id 聚集
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,73 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.RejectPolicy;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 带参数的拒绝策略基类
+ * 子类只返回处理结果，由本类（或 {@link MetricsTrackingRejectedExecutionHandler}）按结果计数并在失败时抛出异常，
+ * 各策略据此区分被吸收、被丢弃与最终报错的任务。
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+public abstract class AbstractRejectPolicy implements RejectedExecutionHandler {
+
+    public enum Outcome {
+        ABSORBED, // 任务最终被执行或入队
+        DISCARDED, // 新任务入队，但丢弃了一个已排队的任务
+        DISCARDED_FAILED, // 丢弃了一个已排队的任务，新任务仍未能入队，提交方收到 RejectedExecutionException
+        FAILED; // 提交方收到 RejectedExecutionException
+
+        public boolean failed() {
+            return this == FAILED || this == DISCARDED_FAILED;
+        }
+    }
+
+    private final RejectPolicy policy;
+    private final long param;
+
+    AbstractRejectPolicy(RejectPolicy policy, long param) {
+        if (param <= 0) {
+            throw new IllegalArgumentException(policy.desc + " param must > 0");
+        }
+        this.policy = policy;
+        this.param = param;
+    }
+
+    public RejectPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getParam() {
+        return param;
+    }
+
+    /**
+     * 与配置中心 handler 字段一致的描述，如 "OverflowSpillPolicy:1000"
+     */
+    public String describe() {
+        return policy.desc + ":" + param;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (handle(r, executor).failed()) {
+            throw rejected(r, executor);
+        }
+    }
+
+    abstract Outcome handle(Runnable r, ThreadPoolExecutor executor);
+
+    RejectedExecutionException rejected(Runnable r, ThreadPoolExecutor executor) {
+        return new RejectedExecutionException("Task " + r + " rejected from " + executor + " by " + describe());
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
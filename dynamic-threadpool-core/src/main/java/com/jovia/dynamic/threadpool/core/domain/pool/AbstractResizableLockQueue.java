@@ -0,0 +1,397 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 单锁可调容量队列骨架
+ * 容量判断、计数与阻塞唤醒在此统一处理，子类只负责在持锁状态下操作底层存储
+ *
+ * @author Jay
+ * @date 2025-11-19-21:32
+ */
+abstract class AbstractResizableLockQueue<E> extends AbstractQueue<E> implements ResizableQueue<E> {
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private volatile int capacity;
+    // 仅在持锁时修改，volatile 便于无锁读取 size
+    private volatile int count;
+    // 当前线程通过 admit 预占了额外限额、尚未入队的元素
+    private final ThreadLocal<Object> admitted = new ThreadLocal<>();
+
+    protected AbstractResizableLockQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must > 0");
+        }
+        this.capacity = capacity;
+    }
+
+    // 以下存储操作均在持锁状态下调用
+
+    protected abstract void doEnqueue(E e);
+
+    protected abstract E doDequeue();
+
+    protected abstract E doPeek();
+
+    protected abstract boolean doRemove(Object o);
+
+    protected abstract Object[] doToArray();
+
+    protected abstract void doClear();
+
+    /**
+     * 入队准入判断，总容量之外的额外限制（如按 key 限额），在持锁状态下调用
+     */
+    protected boolean canEnqueue(E e) {
+        return true;
+    }
+
+    /**
+     * 提交被 {@link #canEnqueue} 的额外限额拒绝时的回调，只由 {@link #admit} 在持锁状态下调用；
+     * 总容量已满不经过这里，此时线程池可能扩线程执行该任务，不算限额拒绝
+     */
+    protected void onRejected(E e) {
+    }
+
+    /**
+     * 为通过准入的元素预占额外限额，之后 {@link #canEnqueue} 需把预占计入，在持锁状态下调用
+     */
+    protected void reserve(E e) {
+    }
+
+    /**
+     * 释放 {@link #reserve} 的预占，在持锁状态下调用
+     */
+    protected void unreserve(E e) {
+    }
+
+    /**
+     * 提交前的准入检查，被 {@link #canEnqueue} 的额外限额拒绝时按拒绝回调并返回 false，通过时为该元素预占限额。
+     * ThreadPoolExecutor 会把 offer 失败当作队列已满而创建非核心线程直接执行该任务，
+     * 预占保证同一线程随后的入队不会因其他生产者抢先占满限额而失败，限额拒绝只会在这里发生并直接走拒绝策略。
+     * 通过准入后必须调用 {@link #releaseAdmission}，未入队（如直接交给新建的核心线程）时归还预占
+     */
+    boolean admit(E e) {
+        lock.lock();
+        try {
+            if (!canEnqueue(e)) {
+                onRejected(e);
+                return false;
+            }
+            reserve(e);
+            admitted.set(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 归还当前线程对该元素尚未用于入队的预占
+     */
+    void releaseAdmission(E e) {
+        if (admitted.get() != e) {
+            return;
+        }
+        lock.lock();
+        try {
+            consumeAdmission(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 入队前先归还预占，腾出的限额在持锁期间只能由该元素使用
+    private void consumeAdmission(E e) {
+        if (admitted.get() == e) {
+            admitted.remove();
+            unreserve(e);
+        }
+    }
+
+    /**
+     * 容量变更回调，此时 {@link #count()} 可能大于新容量
+     */
+    protected void onCapacityChanged(int newCapacity) {
+    }
+
+    protected int count() {
+        return count;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(int newCapacity) {
+        if (newCapacity <= 0) {
+            throw new IllegalArgumentException("capacity must > 0");
+        }
+        lock.lock();
+        try {
+            int oldCapacity = this.capacity;
+            this.capacity = newCapacity;
+            onCapacityChanged(newCapacity);
+            if (newCapacity > oldCapacity) {
+                notFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void insert(E e) {
+        doEnqueue(e);
+        count++;
+        notEmpty.signal();
+    }
+
+    private E extract() {
+        E x = doDequeue();
+        count--;
+        notFull.signal();
+        return x;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - count);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        lock.lock();
+        try {
+            consumeAdmission(e);
+            if (count >= capacity || !canEnqueue(e)) {
+                return false;
+            }
+            insert(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        lock.lockInterruptibly();
+        try {
+            consumeAdmission(e);
+            while (count >= capacity || !canEnqueue(e)) {
+                notFull.await();
+            }
+            insert(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            consumeAdmission(e);
+            while (count >= capacity || !canEnqueue(e)) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(e);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            return count == 0 ? null : doPeek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (doRemove(o)) {
+                count--;
+                notFull.signal();
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (Object element : toArray()) {
+            if (o.equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object[] toArray() {
+        lock.lock();
+        try {
+            return doToArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            doClear();
+            count = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        if (maxElements <= 0) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            int n = Math.min(maxElements, count);
+            for (int i = 0; i < n; i++) {
+                c.add(doDequeue());
+                count--;
+            }
+            if (n > 0) {
+                notFull.signalAll();
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 基于快照的迭代器，remove 按元素删除
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Object[] snapshot = toArray();
+            private int cursor;
+            private int lastRet = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+                lastRet = cursor;
+                return (E) snapshot[cursor++];
+            }
+
+            @Override
+            public void remove() {
+                if (lastRet < 0) {
+                    throw new IllegalStateException();
+                }
+                AbstractResizableLockQueue.this.remove(snapshot[lastRet]);
+                lastRet = -1;
+            }
+        };
+    }
+}
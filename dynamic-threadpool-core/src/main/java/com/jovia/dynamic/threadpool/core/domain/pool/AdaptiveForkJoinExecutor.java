@@ -0,0 +1,318 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+import com.jovia.dynamic.threadpool.core.model.vo.ExecutorType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 工作窃取执行器，适用于递归拆分、扇出计算等任务
+ * 底层为 ForkJoinPool，每个工作线程有自己的双端队列，空闲线程从其他线程窃取任务，避免所有线程争用同一个阻塞队列。
+ * 并行度可在运行时调整：Java 19+ 通过 MethodHandle 调用 ForkJoinPool#setParallelism 原地生效；
+ * 更低版本切换到按新并行度创建的线程池，旧线程池不再接收提交，已排队与执行中的任务在旧线程池内自然完成后回收；
+ * 切换瞬间提交到旧线程池而被拒绝的任务自动改投新线程池。旧线程池终止前，其排队、线程与窃取数仍计入指标。
+ * 不参与自动调整，参数与指标按 {@link ThreadPoolConfig} / {@link ThreadPoolMetrics} 的字段口径上报，由配置中心统一管理。
+ *
+ * @author Jay
+ * @date 2025-11-23-16:30
+ */
+@Slf4j
+public class AdaptiveForkJoinExecutor extends AbstractExecutorService {
+
+    private static final MethodHandle SET_PARALLELISM;
+
+    static {
+        MethodHandle setParallelism = null;
+        try {
+            setParallelism = MethodHandles.publicLookup().findVirtual(ForkJoinPool.class, "setParallelism",
+                    MethodType.methodType(int.class, int.class));
+        } catch (ReflectiveOperationException ignored) {
+            // Java 19 以下不支持原地调整并行度
+        }
+        SET_PARALLELISM = setParallelism;
+    }
+
+    private final String threadNamePrefix;
+    private final boolean asyncMode;
+    private final AtomicInteger threadIndex = new AtomicInteger();
+    // 存活工作线程数与历史峰值，包括已切换下线的线程池
+    private final AtomicInteger liveWorkers = new AtomicInteger();
+    private final AtomicInteger largestPoolSize = new AtomicInteger();
+
+    private volatile ForkJoinPool pool;
+    private volatile boolean shutdown;
+    // 已切换下线、尚未终止的线程池，关闭时一并处理；终止后移除并累加最终窃取次数，保证上报值单调
+    private final List<ForkJoinPool> retired = new ArrayList<>();
+    private long retiredStealCount = 0L;
+
+    public AdaptiveForkJoinExecutor(int parallelism, String threadNamePrefix) {
+        this(parallelism, threadNamePrefix, false);
+    }
+
+    /**
+     * @param asyncMode 为 true 时本地队列按 FIFO 处理，适合只提交不 join 的事件型任务
+     */
+    public AdaptiveForkJoinExecutor(int parallelism, String threadNamePrefix, boolean asyncMode) {
+        this.threadNamePrefix = threadNamePrefix;
+        this.asyncMode = asyncMode;
+        this.pool = newPool(parallelism);
+    }
+
+    private ForkJoinPool newPool(int parallelism) {
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = p -> {
+            ForkJoinWorkerThread thread = new ForkJoinWorkerThread(p) {
+                @Override
+                protected void onStart() {
+                    super.onStart();
+                    int live = liveWorkers.incrementAndGet();
+                    largestPoolSize.accumulateAndGet(live, Math::max);
+                }
+
+                @Override
+                protected void onTermination(Throwable exception) {
+                    liveWorkers.decrementAndGet();
+                    super.onTermination(exception);
+                }
+            };
+            thread.setName(threadNamePrefix + threadIndex.getAndIncrement());
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, factory, null, asyncMode);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * 调整并行度
+     */
+    public synchronized void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must > 0");
+        }
+        ForkJoinPool current = pool;
+        int old = current.getParallelism();
+        if (parallelism == old || shutdown) {
+            return;
+        }
+        if (SET_PARALLELISM != null) {
+            try {
+                SET_PARALLELISM.invoke(current, parallelism);
+                log.info("[动态线程池] ForkJoin 并行度 {} -> {}", old, parallelism);
+                return;
+            } catch (Throwable e) {
+                log.warn("[动态线程池] 原地调整 ForkJoin 并行度失败，切换线程池", e);
+            }
+        }
+        pool = newPool(parallelism);
+        current.shutdown();
+        retired.add(current);
+        log.info("[动态线程池] ForkJoin 并行度 {} -> {}，已切换线程池，旧线程池排队任务 {}", old, parallelism,
+                current.getQueuedSubmissionCount() + current.getQueuedTaskCount());
+    }
+
+    public ForkJoinPool getForkJoinPool() {
+        return pool;
+    }
+
+    /**
+     * 当前线程池与尚未终止的下线线程池；已终止的下线线程池在此移除，最终窃取次数计入累计值
+     */
+    private synchronized List<ForkJoinPool> livePools() {
+        retired.removeIf(p -> {
+            if (!p.isTerminated()) {
+                return false;
+            }
+            retiredStealCount += p.getStealCount();
+            return true;
+        });
+        List<ForkJoinPool> pools = new ArrayList<>(retired.size() + 1);
+        pools.add(pool);
+        pools.addAll(retired);
+        return pools;
+    }
+
+    /**
+     * 累计窃取次数，包括已切换下线的线程池
+     */
+    public synchronized long getStealCount() {
+        long count = 0L;
+        for (ForkJoinPool p : livePools()) {
+            count += p.getStealCount();
+        }
+        return retiredStealCount + count;
+    }
+
+    /**
+     * 以下计数均包括尚未终止的下线线程池
+     */
+    public long getQueuedSubmissionCount() {
+        long count = 0L;
+        for (ForkJoinPool p : livePools()) {
+            count += p.getQueuedSubmissionCount();
+        }
+        return count;
+    }
+
+    public long getQueuedTaskCount() {
+        long count = 0L;
+        for (ForkJoinPool p : livePools()) {
+            count += p.getQueuedTaskCount();
+        }
+        return count;
+    }
+
+    public int getRunningThreadCount() {
+        int count = 0;
+        for (ForkJoinPool p : livePools()) {
+            count += p.getRunningThreadCount();
+        }
+        return count;
+    }
+
+    public int getActiveThreadCount() {
+        int count = 0;
+        for (ForkJoinPool p : livePools()) {
+            count += p.getActiveThreadCount();
+        }
+        return count;
+    }
+
+    public int getPoolSize() {
+        int count = 0;
+        for (ForkJoinPool p : livePools()) {
+            count += p.getPoolSize();
+        }
+        return count;
+    }
+
+    /**
+     * 同时存活的工作线程数峰值
+     */
+    public int getLargestPoolSize() {
+        return largestPoolSize.get();
+    }
+
+    public <T> T invoke(ForkJoinTask<T> task) {
+        return dispatch(p -> p.invoke(task));
+    }
+
+    public <T> ForkJoinTask<T> submit(ForkJoinTask<T> task) {
+        return dispatch(p -> p.submit(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return dispatch(p -> p.submit(task));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        dispatch(p -> {
+            p.execute(task);
+            return null;
+        });
+    }
+
+    // 读到的线程池在提交前被切换下线时会拒绝，未关闭时改投当前线程池
+    private <T> T dispatch(Function<ForkJoinPool, T> action) {
+        while (true) {
+            ForkJoinPool current = pool;
+            try {
+                return action.apply(current);
+            } catch (RejectedExecutionException e) {
+                if (shutdown || pool == current) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 指标按线程池口径映射：core / max 为当前并行度，queueSize 为外部提交与工作线程本地队列中的任务总数；
+     * 数量类指标包括尚未终止的下线线程池
+     */
+    public ThreadPoolMetrics getThreadPoolMetrics() {
+        int parallelism = getParallelism();
+        long submissions = getQueuedSubmissionCount();
+        long queued = submissions + getQueuedTaskCount();
+        return ThreadPoolMetrics.builder()
+                .corePoolSize(parallelism)
+                .maximumPoolSize(parallelism)
+                .activeCount(getActiveThreadCount())
+                .poolSize(getPoolSize())
+                .queueSize((int) Math.min(Integer.MAX_VALUE, queued))
+                .remainingCapacity(Integer.MAX_VALUE)
+                .largestPoolSize(getLargestPoolSize())
+                .stealCount(getStealCount())
+                .queuedSubmissionCount(submissions)
+                .runningThreadCount(getRunningThreadCount())
+                .instanceCount(1)
+                .build();
+    }
+
+    public ThreadPoolConfig getThreadPoolConfig() {
+        int parallelism = getParallelism();
+        return ThreadPoolConfig.builder()
+                .executorType(ExecutorType.FORK_JOIN.desc)
+                .corePoolSize(parallelism)
+                .maximumPoolSize(parallelism)
+                .build();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        pool.shutdown();
+        retired.forEach(ForkJoinPool::shutdown);
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        retired.forEach(ForkJoinPool::shutdownNow);
+        return pool.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && pool.isTerminated() && retired.stream().allMatch(ForkJoinPool::isTerminated);
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<ForkJoinPool> pools;
+        synchronized (this) {
+            pools = new ArrayList<>(retired);
+            pools.add(pool);
+        }
+        for (ForkJoinPool p : pools) {
+            if (!p.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return isTerminated();
+    }
+}
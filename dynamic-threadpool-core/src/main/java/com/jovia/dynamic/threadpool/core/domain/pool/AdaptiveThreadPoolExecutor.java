@@ -1,18 +1,44 @@
 package com.jovia.dynamic.threadpool.core.domain.pool;
 
+import com.jovia.dynamic.threadpool.core.domain.limit.ConcurrencyLimit;
+import com.jovia.dynamic.threadpool.core.domain.limit.ConcurrencyLimitFactory;
+import com.jovia.dynamic.threadpool.core.domain.limit.LimitSample;
+import com.jovia.dynamic.threadpool.core.domain.metrics.LatencyHistogram;
+import com.jovia.dynamic.threadpool.core.domain.metrics.LatencySnapshot;
+import com.jovia.dynamic.threadpool.core.domain.metrics.MetricsTimeSeries;
+import com.jovia.dynamic.threadpool.core.domain.metrics.StripedTimeAccumulator;
 import com.jovia.dynamic.threadpool.core.model.entity.AdjustmentDecision;
+import com.jovia.dynamic.threadpool.core.model.entity.FairKeyMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.PriorityLaneMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.RejectPolicyMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.ResizeEvent;
 import com.jovia.dynamic.threadpool.core.model.entity.SystemMetrics;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
 import com.jovia.dynamic.threadpool.core.model.vo.AdjustMode;
 import com.jovia.dynamic.threadpool.core.model.vo.AutoAdjustConfig;
+import com.jovia.dynamic.threadpool.core.model.vo.ExecutorType;
+import com.jovia.dynamic.threadpool.core.model.vo.MetricSeries;
+import com.jovia.dynamic.threadpool.core.model.vo.QueueType;
+import com.jovia.dynamic.threadpool.core.model.vo.RejectPolicy;
+import com.jovia.dynamic.threadpool.core.model.vo.SizingStrategy;
 import com.jovia.dynamic.threadpool.core.utils.SystemMetricsMonitor;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * 动态线程池执行器
@@ -25,7 +51,23 @@ import java.util.concurrent.locks.ReentrantLock;
 public class AdaptiveThreadPoolExecutor extends ThreadPoolExecutor {
 
     private final MetricsTrackingRejectedExecutionHandler trackingHandler;
+    // 使用过的溢出缓冲策略，切换走后仍回填到缓冲区清空为止
+    private final List<OverflowSpillPolicy> overflowPolicies = new CopyOnWriteArrayList<>();
+    private final AtomicLong retiredOverflowDrained = new AtomicLong();
+    private final SwitchableBlockingQueue<Runnable> workQueue;
+    @Getter
+    private volatile QueueType queueType;
+    // 公平队列参数，切换到公平队列时应用
+    @Getter
+    private volatile int fairKeyCapacity = 0;
+    @Getter
+    private volatile Map<String, Integer> fairKeyWeights = Collections.emptyMap();
+    // 优先级通道参数，切换到通道队列时应用；容量为空表示使用默认通道
+    private volatile int[] laneCapacities = new int[0];
+    @Getter
+    private volatile long laneAgingMs = PriorityLaneBlockingQueue.DEFAULT_AGING_MS;
     private final ReentrantLock adjustLock = new ReentrantLock();
+    private final ThreadPoolResizer resizer = new ThreadPoolResizer(this);
     
     
     // 初始参数记录
@@ -36,73 +78,248 @@ public class AdaptiveThreadPoolExecutor extends ThreadPoolExecutor {
     // 指标跟踪
     private static final double ALPHA = 0.3; // EWMA 平滑系数
     @Getter
-    private volatile double execTime = 0.0; // 平滑任务执行时间
+    private volatile double execTime = 0.0; // 平滑任务执行时间，仅由采样线程写入
     @Getter
-    private volatile double waitTime = 0.0; // 平滑队列任务等待时间
+    private volatile double waitTime = 0.0; // 平滑队列任务等待时间，仅由采样线程写入
     @Getter
     private final AtomicInteger activeThreads = new AtomicInteger(0);
-    
-    private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+    // 排队超过截止时间被丢弃的任务数，与拒绝分开统计
+    private final AtomicLong expiredCount = new AtomicLong(0);
+
+    // 工作线程只做分段累加，采样时求差合并进 EWMA
+    private final StripedTimeAccumulator execAccumulator = new StripedTimeAccumulator();
+    private final StripedTimeAccumulator waitAccumulator = new StripedTimeAccumulator();
+    private long lastExecNanos = 0L;
+    private long lastExecCount = 0L;
+    private long lastWaitNanos = 0L;
+    private long lastWaitCount = 0L;
+
+    // 延迟分布，每个统计窗口轮转一次
+    private static final long PERCENTILE_WINDOW_MS = 5000L;
+    private final LatencyHistogram execHistogram = new LatencyHistogram();
+    private final LatencyHistogram waitHistogram = new LatencyHistogram();
+    private long lastRotateTime = System.currentTimeMillis();
+    @Getter
+    private volatile LatencySnapshot execLatency = LatencySnapshot.EMPTY;
+    @Getter
+    private volatile LatencySnapshot waitLatency = LatencySnapshot.EMPTY;
+
+    // 时序指标，随每次采样写入
+    @Getter
+    private final MetricsTimeSeries timeSeries = new MetricsTimeSeries();
+    private final double[] seriesValues = new double[MetricSeries.values().length];
+    private long lastSampleTime = System.currentTimeMillis();
+    private long lastSampleCompleted = 0L;
+    private long lastSampleRejected = 0L;
+    private long lastSampleExpired = 0L;
+    // EWMA 平滑后的每秒完成任务数
+    @Getter
+    private volatile double throughput = 0.0;
 
     // 调整相关
     @Getter
+    @Setter
     private volatile AdjustMode adjustMode = AdjustMode.MANUAL;
+    @Getter
+    @Setter
+    private volatile AutoAdjustConfig autoAdjustConfig = AutoAdjustConfig.builder().build();
+    // 集群并发预算（所有实例最大线程数之和上限）与本实例分得的份额，0 表示不限；份额只约束自动调整
+    @Getter
+    private volatile int fleetMaxPoolSize = 0;
+    @Getter
+    private volatile int fleetPoolSizeLimit = 0;
+    private volatile long lastAdjustTime = 0L; // 上次评估时间（冷却期起点）
+    private long lastRejectionCount = 0L; // 上次评估时的拒绝次数
+    private long lastCompletedTaskCount = 0L; // 上次评估时的完成任务数
+    private long idleSince = 0L; // 进入空闲状态的时间，0 表示当前不空闲
+
+    // 并发上限算法状态，仅在持有 adjustLock 时访问
+    private ConcurrencyLimit concurrencyLimit;
+    private AdjustMode concurrencyLimitMode;
+    private int limitBaseCorePoolSize; // 进入并发上限模式时的核心线程数，上限回升时恢复到该值
+    private long lastLimitExecNanos = 0L;
+    private long lastLimitExecCount = 0L;
+    private long lastLimitWaitNanos = 0L;
+    private long lastLimitWaitCount = 0L;
     
     public AdaptiveThreadPoolExecutor(int corePoolSize, int maximumPoolSize,
                                       long keepAliveTime, TimeUnit unit, int capacity,
                                       ThreadFactory threadFactory, RejectedExecutionHandler handler) {
+        this(corePoolSize, maximumPoolSize, keepAliveTime, unit, QueueType.LINKED, capacity, threadFactory, handler);
+    }
+
+    public AdaptiveThreadPoolExecutor(int corePoolSize, int maximumPoolSize,
+                                      long keepAliveTime, TimeUnit unit, QueueType queueType, int capacity,
+                                      ThreadFactory threadFactory, RejectedExecutionHandler handler) {
         super(corePoolSize, maximumPoolSize, keepAliveTime, unit, 
-              new ResizableBlockingQueue<>(capacity), threadFactory,
+              new SwitchableBlockingQueue<>(WorkQueueFactory.create(queueType, capacity)), threadFactory,
               new MetricsTrackingRejectedExecutionHandler(handler));
+        this.workQueue = (SwitchableBlockingQueue<Runnable>) getQueue();
+        this.queueType = queueType;
         // 记录拒绝策略
         this.trackingHandler = (MetricsTrackingRejectedExecutionHandler) getRejectedExecutionHandler();
+        if (handler instanceof OverflowSpillPolicy spill) {
+            overflowPolicies.add(spill);
+        }
         // 记录初始参数
         this.initialCorePoolSize = corePoolSize;
         this.initialMaxPoolSize = maximumPoolSize;
         this.initialQueueCapacity = capacity;
     }
+
+    /**
+     * 按已有线程池的参数创建自适应线程池：复制核心/最大线程数、存活时间、线程工厂与拒绝策略，
+     * 队列按原队列类型与容量选择。不迁移任务，也不关闭原线程池
+     */
+    public AdaptiveThreadPoolExecutor(ThreadPoolExecutor source) {
+        this(source.getCorePoolSize(), source.getMaximumPoolSize(),
+             source.getKeepAliveTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS,
+             queueTypeOf(source.getQueue()), capacityOf(source.getQueue()),
+             source.getThreadFactory(), source.getRejectedExecutionHandler());
+        allowCoreThreadTimeOut(source.allowsCoreThreadTimeOut());
+    }
+
+    private static QueueType queueTypeOf(BlockingQueue<Runnable> queue) {
+        if (queue instanceof SynchronousQueue) {
+            return QueueType.SYNCHRONOUS;
+        }
+        if (queue instanceof ArrayBlockingQueue) {
+            return QueueType.ARRAY;
+        }
+        if (queue instanceof PriorityBlockingQueue) {
+            return QueueType.PRIORITY;
+        }
+        return QueueType.LINKED;
+    }
+
+    // 无界队列的 remainingCapacity 为 Integer.MAX_VALUE，求和会溢出
+    private static int capacityOf(BlockingQueue<Runnable> queue) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) queue.size() + queue.remainingCapacity());
+    }
     
     @Override
     public void execute(Runnable task) {
-        super.execute(wrap(task));
+        dispatch(wrap(task));
     }
 
-    @Override
-    public Future<?> submit(Runnable task) {
-        return super.submit(wrap(task));
+    // 队列有按 key / 通道的额外限额时先准入并预占名额，限额拒绝直接交给拒绝策略，避免 offer 失败后线程池为其创建非核心线程；
+    // 任务未入队（直接交给新建的核心线程或被拒绝）时归还预占
+    private void dispatch(Runnable task) {
+        if (!(workQueue.getDelegate() instanceof AbstractResizableLockQueue<Runnable> queue)) {
+            super.execute(task);
+            return;
+        }
+        if (!queue.admit(task)) {
+            getRejectedExecutionHandler().rejectedExecution(task, this);
+            return;
+        }
+        try {
+            super.execute(task);
+        } finally {
+            queue.releaseAdmission(task);
+        }
+    }
+
+    /**
+     * 按 key 提交任务：队列为 FAIR 时同一 key 的任务进入同一子队列，各 key 按权重轮流执行；
+     * 其他队列类型忽略 key
+     */
+    public void execute(Runnable task, String key) {
+        if (key == null || task instanceof TimedRunnable) {
+            execute(task);
+            return;
+        }
+        dispatch(timed(task, System.nanoTime(), key, TimedRunnable.NO_DEADLINE, TimedRunnable.priorityOf(task)));
+    }
+
+    /**
+     * 按优先级提交任务，数值越大越先执行：队列为 LANE 时进入对应优先级通道（超出范围归入最近的通道），
+     * 为 PRIORITY 时按优先级排序，其他队列类型忽略优先级
+     */
+    public void execute(Runnable task, int priority) {
+        if (task instanceof TimedRunnable) {
+            execute(task);
+            return;
+        }
+        dispatch(timed(task, System.nanoTime(), null, TimedRunnable.NO_DEADLINE, priority));
+    }
+
+    /**
+     * 提交带最长排队时间的任务：出队时已等待超过 maxQueueWait 则不执行，计入过期数而非拒绝数。
+     * 适合调用方自身有超时的场景，过载时线程只用于仍可能按时返回的请求
+     */
+    public void execute(Runnable task, long maxQueueWait, TimeUnit unit) {
+        long now = System.nanoTime();
+        dispatch(timed(task, now, null, deadlineOf(now, unit.toNanos(maxQueueWait)), TimedRunnable.priorityOf(task)));
+    }
+
+    /**
+     * 提交带最长排队时间的任务，过期时返回的 Future 以 {@link TaskExpiredException} 异常结束
+     */
+    public <T> Future<T> submit(Callable<T> task, long maxQueueWait, TimeUnit unit) {
+        DeadlineFutureTask<T> future = new DeadlineFutureTask<>(task);
+        execute(future, maxQueueWait, unit);
+        return future;
+    }
+
+    public Future<?> submit(Runnable task, long maxQueueWait, TimeUnit unit) {
+        DeadlineFutureTask<Void> future = new DeadlineFutureTask<>(task, null);
+        execute(future, maxQueueWait, unit);
+        return future;
+    }
+
+    /**
+     * 提交带截止时间的任务，截止时间前未开始执行则不再执行
+     */
+    public <T> Future<T> submit(Callable<T> task, Instant deadline) {
+        long remaining = Duration.between(Instant.now(), deadline).toNanos();
+        return submit(task, remaining, TimeUnit.NANOSECONDS);
+    }
+
+    // 截止时间不早于提交时间，溢出时视为不限
+    private static long deadlineOf(long now, long maxQueueWaitNanos) {
+        long deadline = now + Math.max(0L, maxQueueWaitNanos);
+        return deadline == TimedRunnable.NO_DEADLINE || deadline - now < 0 ? TimedRunnable.NO_DEADLINE : deadline;
     }
 
     @Override
     protected void beforeExecute(Thread t, Runnable r) {
         // 增加活跃线程数
         activeThreads.incrementAndGet();
+        // 工作线程刚取走一个任务，主队列有空位，回填溢出缓冲区
+        if (!overflowPolicies.isEmpty()) {
+            drainOverflow();
+        }
         
-        // 所有通过 execute/submit 提交的任务都已被 wrap 包装为 TimedRunnable
+        // 所有提交的任务都经过 execute 被 wrap 包装为 TimedRunnable（submit 会先包装成 FutureTask 再调用 execute）
         TimedRunnable tr = (TimedRunnable) r;
-        long waitTimeNanos = System.nanoTime() - tr.submitTime;
-        double waitTimeMillis = waitTimeNanos / 1_000_000.0;
-        waitTime = ALPHA * waitTimeMillis + (1 - ALPHA) * waitTime;
-        
-        startTime.set(System.nanoTime());
+        long now = System.nanoTime();
+        long waitNanos = now - tr.submitTime;
+        waitAccumulator.record(waitNanos);
+        waitHistogram.record(waitNanos);
+        tr.startTime = now;
+        // 过期任务只标记，由 TimedRunnable.run 跳过执行；在这里抛异常会让工作线程退出重建
+        if (tr.isExpiredAt(now)) {
+            tr.expired = true;
+            expiredCount.incrementAndGet();
+        }
         super.beforeExecute(t, r);
     }
 
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
         try {
-            long endTime = System.nanoTime();
-            long durationNs = endTime - startTime.get();
-            double durationMs = durationNs / 1_000_000.0;
-            execTime = ALPHA * durationMs + (1 - ALPHA) * execTime;
+            // beforeExecute 与 afterExecute 在同一工作线程执行，startTime 无需额外同步
+            TimedRunnable tr = (TimedRunnable) r;
+            // 过期任务未执行，不计入执行耗时，避免拉低服务时间估算
+            if (!tr.expired) {
+                long execNanos = System.nanoTime() - tr.startTime;
+                execAccumulator.record(execNanos);
+                execHistogram.record(execNanos);
+            }
         } finally {
             // 减少活跃线程数
             activeThreads.decrementAndGet();
-            startTime.remove();
-        }
-
-        // 在任务执行后检查是否需要调整（仅在自动模式下）
-        if (adjustMode == AdjustMode.AUTO) {
-            adjustmentIfNeeded();
         }
     }
     
@@ -111,37 +328,428 @@ public class AdaptiveThreadPoolExecutor extends ThreadPoolExecutor {
         if(r instanceof TimedRunnable){
             return r;
         }
-        return new TimedRunnable(r, System.nanoTime());
+        return timed(r, System.nanoTime(), null, TimedRunnable.NO_DEADLINE, TimedRunnable.priorityOf(r));
     }
-    
 
-    private void adjustmentIfNeeded() {
+    private TimedRunnable timed(Runnable task, long submitTime, String fairKey, long deadline, int priority) {
+        return new TimedRunnable(task, decorate(task), submitTime, fairKey, deadline, priority);
+    }
 
+    /**
+     * 装饰实际执行的任务，所有提交方式都经过这里；排队、过期与取消仍按原任务处理，
+     * 带截止时间的 Future 过期时照常以 {@link TaskExpiredException} 结束
+     */
+    protected Runnable decorate(Runnable task) {
+        return task;
     }
     
-    
+
+    /**
+     * 采样：将本周期累加的耗时合并进 EWMA，写入时序指标，到达统计窗口时轮转直方图，由 {@link ThreadPoolControlLoop} 周期调用
+     */
+    void sampleMetrics() {
+        adjustLock.lock();
+        try {
+            long waitNanos = waitAccumulator.sumNanos();
+            long waitCount = waitAccumulator.count();
+            long execNanos = execAccumulator.sumNanos();
+            long execCount = execAccumulator.count();
+
+            long waitDelta = waitCount - lastWaitCount;
+            if (waitDelta > 0) {
+                waitTime = ewma(waitTime, (waitNanos - lastWaitNanos) / 1_000_000.0 / waitDelta);
+            } else if (getQueue().isEmpty()) {
+                // 本周期没有任务出队且队列为空，等待时间向 0 衰减
+                waitTime = ewma(waitTime, 0.0);
+            }
+            long execDelta = execCount - lastExecCount;
+            if (execDelta > 0) {
+                execTime = ewma(execTime, (execNanos - lastExecNanos) / 1_000_000.0 / execDelta);
+            }
+
+            lastWaitNanos = waitNanos;
+            lastWaitCount = waitCount;
+            lastExecNanos = execNanos;
+            lastExecCount = execCount;
+
+            long now = System.currentTimeMillis();
+            resizer.advance(now);
+            // 兜底回填：没有任务出队时（如线程池扩容后）也能把缓冲区中的任务送回主队列
+            if (!overflowPolicies.isEmpty() && !isShutdown()) {
+                drainOverflow();
+            }
+            recordTimeSeries(now);
+            if (now - lastRotateTime >= PERCENTILE_WINDOW_MS) {
+                lastRotateTime = now;
+                waitLatency = waitHistogram.rotate();
+                execLatency = execHistogram.rotate();
+            }
+        } finally {
+            adjustLock.unlock();
+        }
+    }
+
+    // 吞吐与拒绝按两次采样的实际间隔折算为每秒速率
+    private void recordTimeSeries(long now) {
+        long completed = getCompletedTaskCount();
+        long rejected = trackingHandler.getRejectionCount();
+        long expired = expiredCount.get();
+        double elapsedSeconds = Math.max(1L, now - lastSampleTime) / 1000.0;
+
+        double[] values = seriesValues;
+        values[MetricSeries.ACTIVE_COUNT.ordinal()] = getActiveCount();
+        values[MetricSeries.POOL_SIZE.ordinal()] = getPoolSize();
+        values[MetricSeries.CORE_POOL_SIZE.ordinal()] = getCorePoolSize();
+        values[MetricSeries.MAXIMUM_POOL_SIZE.ordinal()] = getMaximumPoolSize();
+        values[MetricSeries.QUEUE_SIZE.ordinal()] = getQueue().size();
+        values[MetricSeries.THROUGHPUT.ordinal()] = (completed - lastSampleCompleted) / elapsedSeconds;
+        throughput = ewma(throughput, values[MetricSeries.THROUGHPUT.ordinal()]);
+        values[MetricSeries.REJECTION_RATE.ordinal()] = (rejected - lastSampleRejected) / elapsedSeconds;
+        values[MetricSeries.EXPIRED_RATE.ordinal()] = (expired - lastSampleExpired) / elapsedSeconds;
+        values[MetricSeries.QUEUE_WAIT.ordinal()] = waitTime;
+        values[MetricSeries.TASK_TIME.ordinal()] = execTime;
+        timeSeries.record(now, values);
+
+        lastSampleTime = now;
+        lastSampleCompleted = completed;
+        lastSampleRejected = rejected;
+        lastSampleExpired = expired;
+    }
+
+    private static double ewma(double current, double sample) {
+        return ALPHA * sample + (1 - ALPHA) * current;
+    }
+
+    /**
+     * 自动调整入口，由 {@link ThreadPoolControlLoop} 周期调用。
+     * 冷却期内直接返回，拿不到锁说明正在评估，同样直接返回
+     */
+    void adjustmentIfNeeded() {
+        AutoAdjustConfig config = autoAdjustConfig;
+        long now = System.currentTimeMillis();
+        if (now - lastAdjustTime < config.getAdjustIntervalMs()) {
+            return;
+        }
+        if (!adjustLock.tryLock()) {
+            return;
+        }
+        try {
+            if (now - lastAdjustTime < config.getAdjustIntervalMs()) {
+                return;
+            }
+            lastAdjustTime = now;
+            // 配置下发的分步缩容完成前不做自动调整，避免两者互相覆盖
+            if (resizer.isShrinking()) {
+                return;
+            }
+            AdjustmentDecision decision = evaluate(config, now);
+            if (decision.shouldAdjust()) {
+                applyAdjustment(decision);
+            } else if (log.isDebugEnabled()) {
+                log.debug("[动态线程池] 无需调整: {}", decision.getReason());
+            }
+        } finally {
+            adjustLock.unlock();
+        }
+    }
+
+    /**
+     * 根据队列等待、队列满载率、拒绝增量和系统资源计算调整决策。
+     * 扩容阈值与缩容阈值之间留有滞回区间，处于区间内时保持不变，避免来回抖动。
+     */
+    private AdjustmentDecision evaluate(AutoAdjustConfig config, long now) {
+        int core = getCorePoolSize();
+        int max = getMaximumPoolSize();
+        int queueSize = getQueue().size();
+        int queueCapacity = getQueueCapacity();
+        double queueFillRatio = queueCapacity > 0 ? (double) queueSize / queueCapacity : 0.0;
+
+        long rejections = trackingHandler.getRejectionCount();
+        long rejectionDelta = rejections - lastRejectionCount;
+        lastRejectionCount = rejections;
+
+        long completed = getCompletedTaskCount();
+        long completedDelta = completed - lastCompletedTaskCount;
+        lastCompletedTaskCount = completed;
+
+        // 集群份额下调后先收回超出的线程，再按正常逻辑评估
+        int fleetLimit = fleetPoolSizeLimit;
+        if (fleetLimit > 0 && max > fleetLimit) {
+            return AdjustmentDecision.of(AdjustmentDecision.Type.SHRINK_MAX, Math.min(core, fleetLimit), fleetLimit,
+                    queueCapacity, "超出集群并发预算份额 " + fleetLimit);
+        }
+        int ceiling = maxPoolSizeCeiling(config);
+
+        AdjustMode mode = adjustMode;
+        if (mode.isConcurrencyLimit()) {
+            return evaluateConcurrencyLimit(mode, config, now, core, max, queueSize, queueCapacity, ceiling);
+        }
+        if (config.getSizingStrategy() == SizingStrategy.LITTLE) {
+            return evaluateByTarget(config, now, core, max, queueSize, queueCapacity, ceiling);
+        }
+
+        // 综合压力：等待时间与满载率按权重归一化，>= 1 视为过载
+        double waitWeight = config.getQueueWaitWeight();
+        double pressure = waitWeight * (waitTime / config.getQueueWaitThresholdMs())
+                + (1 - waitWeight) * (queueFillRatio / config.getQueueFullThreshold());
+
+        if (rejectionDelta > 0 || pressure >= 1.0) {
+            idleSince = 0L;
+            SystemMetrics systemMetrics = SystemMetricsMonitor.getLastSystemMetrics();
+            if (config.isUseSystemMetrics() && resourceSaturated(config, systemMetrics)) {
+                return AdjustmentDecision.noChange(String.format("系统资源紧张(cpu=%.2f, throttled=%.2f, mem=%.2f)，暂停扩容",
+                        systemMetrics.getCpuUsage(), systemMetrics.getCpuThrottledRatio(), systemMetrics.getMemoryUsedPercent()));
+            }
+
+            // 压力越大步长越大（最多 4 倍），出现拒绝时直接按最大倍数扩容
+            int factor = rejectionDelta > 0 ? 4 : (int) Math.min(4, Math.floor(pressure));
+            String reason = String.format("wait=%.2fms, fill=%.2f, rejected=%d", waitTime, queueFillRatio, rejectionDelta);
+
+            int coreLimit = Math.min(config.getMaxCorePoolSize(), ceiling);
+            if (core < coreLimit) {
+                int newCore = Math.min(core + config.getCorePoolStep() * factor, coreLimit);
+                return AdjustmentDecision.of(AdjustmentDecision.Type.EXPAND_CORE,
+                        newCore, Math.max(max, newCore), queueCapacity, reason);
+            }
+            if (max < ceiling) {
+                int newMax = Math.min(max + config.getMaxPoolStep() * factor, ceiling);
+                return AdjustmentDecision.of(AdjustmentDecision.Type.EXPAND_MAX, core, newMax, queueCapacity, reason);
+            }
+            // 线程数已到上限仍有拒绝，扩大队列缓冲
+            if (rejectionDelta > 0 && queueType != QueueType.SYNCHRONOUS && queueCapacity < config.getMaxQueueCapacity()) {
+                int newQueue = Math.min(queueCapacity + config.getQueueStep() * factor, config.getMaxQueueCapacity());
+                return AdjustmentDecision.of(AdjustmentDecision.Type.EXPAND_MAX, core, max, newQueue, reason);
+            }
+            return AdjustmentDecision.noChange("已达调整上限, " + reason);
+        }
+
+        // 空闲判定：队列为空、活跃线程未占满核心线程，且等待时间低于下限（无任务完成时 EWMA 不再更新，视为空闲）
+        boolean idle = queueSize == 0 && getActiveCount() < core
+                && (completedDelta == 0 || waitTime <= config.getQueueWaitLowMs());
+        if (!idle) {
+            idleSince = 0L;
+            return AdjustmentDecision.noChange("处于滞回区间");
+        }
+        if (idleSince == 0L) {
+            idleSince = now;
+        }
+        if (!config.isAllowShrink() || now - idleSince < config.getIdleShrinkThresholdMs()) {
+            return AdjustmentDecision.noChange("空闲未达缩容阈值");
+        }
+
+        int newCore = Math.max(core - config.getCorePoolStep(), initialCorePoolSize);
+        int newMax = max > initialMaxPoolSize
+                ? Math.max(Math.max(max - config.getMaxPoolStep(), initialMaxPoolSize), newCore)
+                : max;
+        if (newCore == core && newMax == max) {
+            return AdjustmentDecision.noChange("已回落至初始参数");
+        }
+        return AdjustmentDecision.of(AdjustmentDecision.Type.SHRINK_CORE, newCore, newMax, queueCapacity,
+                String.format("空闲 %dms", now - idleSince));
+    }
+
+    /**
+     * 按利特尔法则直接计算所需并发，一次调整到位：
+     * 所需线程 = 到达率 × 服务时间 / 目标利用率 + 在一个调整周期内消化当前积压所需的线程。
+     * 到达率由最近一个窗口的完成速率、拒绝速率与队列净增长推算；仍有积压且等待 p99 超出目标时，
+     * 按超出比例修正估算偏差（最多 2 倍）。p99 统计窗口有滞后，队列已排空时不做修正，避免扩容后反复放大。
+     * 结果受参数上限与 CPU 上限约束。
+     */
+    private AdjustmentDecision evaluateByTarget(AutoAdjustConfig config, long now, int core, int max,
+                                                int queueSize, int queueCapacity, int ceiling) {
+        double serviceMs = execTime;
+        if (serviceMs <= 0.0) {
+            return AdjustmentDecision.noChange("尚无任务执行耗时样本");
+        }
+        long from = now - Math.max(config.getAdjustIntervalMs(), PERCENTILE_WINDOW_MS);
+        double throughput = timeSeries.aggregate(MetricSeries.THROUGHPUT, from, now).getAvg();
+        double rejectionRate = timeSeries.aggregate(MetricSeries.REJECTION_RATE, from, now).getAvg();
+        double queueGrowth = timeSeries.aggregate(MetricSeries.QUEUE_SIZE, from, now).getSlopePerMinute() / 60.0;
+        double arrivalRate = Math.max(0.0, throughput + rejectionRate + queueGrowth);
+
+        double targetWaitMs = config.getTargetQueueWaitP99Ms();
+        double offeredLoad = arrivalRate * serviceMs / 1000.0;
+        double drainThreads = queueSize * serviceMs / Math.max(1L, config.getAdjustIntervalMs());
+        int need = (int) Math.ceil(offeredLoad / config.getTargetUtilization() + drainThreads);
+        double waitP99 = waitLatency.getP99();
+        if (waitP99 > targetWaitMs && queueSize > 0) {
+            need = Math.max(need, (int) Math.ceil(core * Math.min(2.0, waitP99 / targetWaitMs)));
+        }
+
+        SystemMetrics systemMetrics = SystemMetricsMonitor.getLastSystemMetrics();
+        if (config.isUseSystemMetrics() && resourceSaturated(config, systemMetrics)) {
+            ceiling = Math.min(ceiling, core);
+        } else if (config.isUseSystemMetrics() && systemMetrics != null && systemMetrics.getCpuUsage() > 0.0) {
+            // 假设 CPU 占用与活跃线程数成正比，推算达到 CPU 上限时的线程数
+            int cpuCeiling = (int) (Math.max(1, getActiveCount()) * config.getMaxCpuUsage() / systemMetrics.getCpuUsage());
+            ceiling = Math.min(ceiling, Math.max(core, cpuCeiling));
+        }
+        need = Math.max(initialCorePoolSize, Math.min(need, ceiling));
+        String reason = String.format("arrival=%.1f/s, service=%.2fms, waitP99=%.2fms, queue=%d, need=%d",
+                arrivalRate, serviceMs, waitP99, queueSize, need);
+
+        if (need > core) {
+            idleSince = 0L;
+            int newCore = Math.min(need, config.getMaxCorePoolSize());
+            int newMax = Math.max(max, need);
+            if (newCore == core && newMax == max) {
+                return AdjustmentDecision.noChange("已达调整上限, " + reason);
+            }
+            return AdjustmentDecision.of(AdjustmentDecision.Type.EXPAND_CORE, newCore, newMax, queueCapacity, reason);
+        }
+
+        // 所需并发低于核心线程数且等待满足目标，持续 idleShrinkThresholdMs 后一次收缩到位
+        if (need < core && waitP99 <= targetWaitMs) {
+            if (idleSince == 0L) {
+                idleSince = now;
+            }
+            if (!config.isAllowShrink() || now - idleSince < config.getIdleShrinkThresholdMs()) {
+                return AdjustmentDecision.noChange("低负载未达缩容阈值, " + reason);
+            }
+            int newMax = max > initialMaxPoolSize ? Math.max(initialMaxPoolSize, need) : max;
+            return AdjustmentDecision.of(AdjustmentDecision.Type.SHRINK_CORE, need, newMax, queueCapacity, reason);
+        }
+        idleSince = 0L;
+        return AdjustmentDecision.noChange(reason);
+    }
+
+    /**
+     * 并发上限模式：算法根据本周期的平均执行时间（RTT）、排队时间与峰值活跃线程更新上限，上限直接作为最大线程数，
+     * 核心线程数不超过上限。外部修改了最大线程数时重新初始化，修改了核心线程数时以新值作为核心线程数的恢复目标
+     */
+    private AdjustmentDecision evaluateConcurrencyLimit(AdjustMode mode, AutoAdjustConfig config, long now,
+                                                        int core, int max, int queueSize, int queueCapacity,
+                                                        int ceiling) {
+        long execNanos = execAccumulator.sumNanos();
+        long execCount = execAccumulator.count();
+        long waitNanos = waitAccumulator.sumNanos();
+        long waitCount = waitAccumulator.count();
+        long rtt = execCount > lastLimitExecCount ? (execNanos - lastLimitExecNanos) / (execCount - lastLimitExecCount) : 0L;
+        long wait = waitCount > lastLimitWaitCount ? (waitNanos - lastLimitWaitNanos) / (waitCount - lastLimitWaitCount) : 0L;
+        lastLimitExecNanos = execNanos;
+        lastLimitExecCount = execCount;
+        lastLimitWaitNanos = waitNanos;
+        lastLimitWaitCount = waitCount;
+
+        if (concurrencyLimit == null || concurrencyLimitMode != mode || concurrencyLimit.getLimit() != max) {
+            // 从核心线程数慢启动：以已拥塞时的 RTT 作为基线会让算法把拥塞状态当成常态
+            concurrencyLimit = ConcurrencyLimitFactory.create(mode, core, config, ceiling);
+            concurrencyLimitMode = mode;
+            limitBaseCorePoolSize = core;
+            log.info("[动态线程池] 并发上限算法 {} 初始化，上限 {}", mode.desc, concurrencyLimit.getLimit());
+        } else if (core != Math.min(limitBaseCorePoolSize, max)) {
+            limitBaseCorePoolSize = core;
+        }
+
+        int inflight = Math.max(getActiveCount(),
+                (int) timeSeries.aggregate(MetricSeries.ACTIVE_COUNT, now - config.getAdjustIntervalMs(), now).getMax());
+        int oldLimit = concurrencyLimit.getLimit();
+        int limit = concurrencyLimit.update(new LimitSample(rtt, wait, inflight, queueSize));
+        int newCore = Math.min(limitBaseCorePoolSize, limit);
+        String reason = String.format("%s limit %d -> %d, rtt=%.2fms, wait=%.2fms, inflight=%d",
+                mode.desc, oldLimit, limit, rtt / 1_000_000.0, wait / 1_000_000.0, inflight);
+        if (limit == max && newCore == core) {
+            return AdjustmentDecision.noChange(reason);
+        }
+        return AdjustmentDecision.of(limit >= max ? AdjustmentDecision.Type.EXPAND_MAX : AdjustmentDecision.Type.SHRINK_MAX,
+                newCore, limit, queueCapacity, reason);
+    }
+
+    // 自动调整的最大线程数上限：参数上限与集群份额取小
+    private int maxPoolSizeCeiling(AutoAdjustConfig config) {
+        int fleetLimit = fleetPoolSizeLimit;
+        return fleetLimit > 0 ? Math.min(config.getMaxMaximumPoolSize(), fleetLimit) : config.getMaxMaximumPoolSize();
+    }
+
+    /**
+     * 设置集群并发预算，由配置中心下发；实际生效的是按存活实例数均分后的份额，见 {@link #setFleetPoolSizeLimit}
+     */
+    public void setFleetMaxPoolSize(int fleetMaxPoolSize) {
+        this.fleetMaxPoolSize = Math.max(0, fleetMaxPoolSize);
+    }
+
+    /**
+     * 设置本实例分得的集群并发份额，0 表示不限。自动调整的最大线程数不超过份额，当前已超出时下一个调整周期收回；
+     * 并发上限算法按新上限重新初始化。手动模式不受影响
+     */
+    public void setFleetPoolSizeLimit(int limit) {
+        int newLimit = Math.max(0, limit);
+        if (newLimit == fleetPoolSizeLimit) {
+            return;
+        }
+        adjustLock.lock();
+        try {
+            log.info("[动态线程池] 集群并发份额 {} -> {}", fleetPoolSizeLimit, newLimit);
+            fleetPoolSizeLimit = newLimit;
+            concurrencyLimit = null;
+            // 不等冷却期，下个控制周期即按新份额评估
+            lastAdjustTime = 0L;
+        } finally {
+            adjustLock.unlock();
+        }
+    }
+
+    // CPU（容器内相对配额）、限流或内存任一超过上限即视为资源紧张
+    private static boolean resourceSaturated(AutoAdjustConfig config, SystemMetrics systemMetrics) {
+        return systemMetrics != null
+                && (systemMetrics.getCpuUsage() >= config.getMaxCpuUsage()
+                || systemMetrics.getCpuThrottledRatio() >= config.getMaxCpuThrottledRatio()
+                || systemMetrics.getMemoryUsedPercent() >= config.getMaxMemoryUsage());
+    }
+
     /**
      * 应用调整决策到线程池
      */
     private void applyAdjustment(AdjustmentDecision decision) {
-
+        int newCore = decision.getNewCorePoolSize() != null ? decision.getNewCorePoolSize() : getCorePoolSize();
+        int newMax = decision.getNewMaximumPoolSize() != null ? decision.getNewMaximumPoolSize() : getMaximumPoolSize();
+        int newQueue = decision.getNewQueueCapacity() != null ? decision.getNewQueueCapacity() : 0;
+        resizer.resize(newCore, newMax, newQueue, ResizeEvent.Source.AUTO, false,
+                decision.getType() + ", " + decision.getReason());
     }
-    
-    // 保存提交时间的任务
-    private static class TimedRunnable implements Runnable {
-        private final Runnable task;
-        private final long submitTime;
 
-        private TimedRunnable(Runnable task, long submitTime) {
-            this.task = task;
-            this.submitTime = submitTime;
+    /**
+     * 按配置变更核心线程数、最大线程数与队列容量，变更顺序保证任意时刻 core <= max。
+     * 核心线程数增加时预启动核心线程；缩容幅度超过 shrinkRampStep 时分步执行，每 shrinkRampIntervalMs 推进一步
+     * （由控制循环的采样周期驱动），多出的线程在存活时间到期后退出，执行中的任务不受影响
+     *
+     * @param queueCapacity <= 0 表示不调整队列
+     * @throws IllegalArgumentException core > max 或 max <= 0
+     */
+    public void resize(int corePoolSize, int maximumPoolSize, int queueCapacity) {
+        adjustLock.lock();
+        try {
+            resizer.resize(corePoolSize, maximumPoolSize, queueCapacity, ResizeEvent.Source.CONFIG, true, "配置下发");
+        } finally {
+            adjustLock.unlock();
         }
+    }
 
-        @Override
-        public void run() {
-            task.run();
+    /**
+     * 是否有进行中的分步缩容
+     */
+    public boolean isShrinking() {
+        adjustLock.lock();
+        try {
+            return resizer.isShrinking();
+        } finally {
+            adjustLock.unlock();
         }
     }
+
+    /**
+     * 最近的参数变更事件（最多 64 条），按时间升序
+     */
+    public List<ResizeEvent> getResizeEvents() {
+        return resizer.recentEvents();
+    }
+
+    /**
+     * 订阅参数变更事件，在执行变更的线程中同步回调
+     */
+    public void addResizeListener(Consumer<ResizeEvent> listener) {
+        resizer.addListener(listener);
+    }
     
     public ThreadPoolMetrics getThreadPoolMetrics() {
         return ThreadPoolMetrics.builder()
@@ -154,28 +762,261 @@ public class AdaptiveThreadPoolExecutor extends ThreadPoolExecutor {
                 .largestPoolSize(getLargestPoolSize())
                 .ewmaTaskTime(getExecTime())
                 .ewmaQueueWait(getWaitTime())
+                .queueWaitP50(waitLatency.getP50())
+                .queueWaitP99(waitLatency.getP99())
+                .queueWaitP999(waitLatency.getP999())
+                .taskTimeP50(execLatency.getP50())
+                .taskTimeP99(execLatency.getP99())
+                .taskTimeP999(execLatency.getP999())
+                .expiredCount(getExpiredCount())
+                .rejectRate(getRecentRejectionRate())
+                .overflowSize(getOverflowSize())
+                .rejectedCount(getRejectedExecutionCount())
+                .throughput(throughput)
+                .instanceCount(1)
                 .build();
     }
     
     public ThreadPoolConfig getThreadPoolConfig() {
         return ThreadPoolConfig.builder()
+                .executorType(ExecutorType.THREAD_POOL.desc)
                 .corePoolSize(getCorePoolSize())
                 .maximumPoolSize(getMaximumPoolSize())
                 .keepAliveTime(getKeepAliveTime(TimeUnit.SECONDS))
                 .allowCoreThreadTimeOut(allowsCoreThreadTimeOut())
-                .queueType(getQueue().getClass().getSimpleName())
-                .handler(getRejectedExecutionHandler().getClass().getSimpleName())
+                .queueType(queueType.desc)
+                .queueCapacity(getQueueCapacity())
+                .handler(RejectPolicyFactory.describe(trackingHandler.getDelegate()))
                 .adjustMode(adjustMode.desc)
+                .fairKeyCapacity(fairKeyCapacity)
+                .fairKeyWeights(fairKeyWeights.isEmpty() ? null : FairBlockingQueue.formatWeights(fairKeyWeights))
+                .laneCapacities(laneCapacities.length == 0 ? null : PriorityLaneBlockingQueue.formatCapacities(laneCapacities))
+                .laneAgingMs(laneAgingMs)
+                .fleetMaxPoolSize(fleetMaxPoolSize)
                 .build();
     }
 
+    /**
+     * 设置公平队列参数：单个 key 的排队上限（0 表示只受总容量限制）与各 key 权重。
+     * 当前不是公平队列时先保存，切换到公平队列时生效
+     */
+    public void setFairScheduling(int keyCapacity, Map<String, Integer> weights) {
+        this.fairKeyCapacity = Math.max(0, keyCapacity);
+        this.fairKeyWeights = Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+        if (workQueue.getDelegate() instanceof FairBlockingQueue fair) {
+            applyFairScheduling(fair);
+        }
+    }
+
+    private void applyFairScheduling(FairBlockingQueue fair) {
+        fair.setKeyCapacity(fairKeyCapacity);
+        fair.setWeights(fairKeyWeights);
+    }
+
+    public int[] getLaneCapacities() {
+        return laneCapacities.clone();
+    }
+
+    /**
+     * 设置优先级通道参数：各通道排队上限（按优先级从低到高，数组长度即通道数，为空时保持当前通道）与老化周期。
+     * 当前不是通道队列时先保存，切换到通道队列时生效
+     */
+    public void setPriorityLanes(int[] capacities, long agingMs) {
+        this.laneCapacities = capacities.clone();
+        this.laneAgingMs = Math.max(1L, agingMs);
+        if (workQueue.getDelegate() instanceof PriorityLaneBlockingQueue lanes) {
+            applyPriorityLanes(lanes);
+        }
+    }
+
+    private void applyPriorityLanes(PriorityLaneBlockingQueue lanes) {
+        if (laneCapacities.length > 0) {
+            lanes.setLaneCapacities(laneCapacities);
+        }
+        lanes.setAgingMs(laneAgingMs);
+    }
+
+    /**
+     * 优先级通道的排队指标，非通道队列返回空列表
+     */
+    public List<PriorityLaneMetrics> getPriorityLaneMetrics() {
+        if (workQueue.getDelegate() instanceof PriorityLaneBlockingQueue lanes) {
+            return lanes.laneMetrics();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * 公平队列各 key 的排队指标，非公平队列返回空列表
+     */
+    public List<FairKeyMetrics> getFairKeyMetrics() {
+        if (workQueue.getDelegate() instanceof FairBlockingQueue fair) {
+            return fair.keyMetrics();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * 替换实际的拒绝策略，保留拒绝计数的包装层
+     */
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        if (handler == null) {
+            throw new NullPointerException();
+        }
+        if (handler instanceof MetricsTrackingRejectedExecutionHandler || trackingHandler == null) {
+            super.setRejectedExecutionHandler(handler);
+            return;
+        }
+        if (handler instanceof OverflowSpillPolicy spill && !overflowPolicies.contains(spill)) {
+            overflowPolicies.add(spill);
+        }
+        RejectedExecutionHandler old = trackingHandler.getDelegate();
+        trackingHandler.setDelegate(handler);
+        log.info("[动态线程池] 拒绝策略 {} -> {}", RejectPolicyFactory.describe(old), RejectPolicyFactory.describe(handler));
+    }
+
+    // 按使用顺序回填，旧缓冲区中的任务先于新缓冲区；已切换走的缓冲区清空后不再跟踪
+    private void drainOverflow() {
+        BlockingQueue<Runnable> queue = getQueue();
+        RejectedExecutionHandler active = trackingHandler.getDelegate();
+        for (OverflowSpillPolicy spill : overflowPolicies) {
+            spill.drainTo(queue);
+            if (spill != active && spill.getOverflowSize() == 0 && overflowPolicies.remove(spill)) {
+                retiredOverflowDrained.addAndGet(spill.getDrainedCount());
+            }
+        }
+    }
+
+    /**
+     * 溢出缓冲区中等待回填的任务数
+     */
+    public int getOverflowSize() {
+        int size = 0;
+        for (OverflowSpillPolicy spill : overflowPolicies) {
+            size += spill.getOverflowSize();
+        }
+        return size;
+    }
+
+    /**
+     * 最近 10 秒内平均每秒拒绝次数（含被拒绝策略吸收的）
+     */
+    public double getRecentRejectionRate() {
+        return trackingHandler.getRecentRejectionRate();
+    }
+
+    /**
+     * 各拒绝策略的处理指标，包括切换前使用过的策略
+     */
+    public List<RejectPolicyMetrics> getRejectPolicyMetrics() {
+        List<RejectPolicyMetrics> metrics = trackingHandler.policyMetrics();
+        for (RejectPolicyMetrics m : metrics) {
+            if (!RejectPolicy.OVERFLOW_SPILL.desc.equals(m.getPolicy())) {
+                continue;
+            }
+            m.setDrainedCount(retiredOverflowDrained.get());
+            for (OverflowSpillPolicy spill : overflowPolicies) {
+                m.setOverflowSize(m.getOverflowSize() + spill.getOverflowSize());
+                m.setDrainedCount(m.getDrainedCount() + spill.getDrainedCount());
+                if (spill == trackingHandler.getDelegate()) {
+                    m.setOverflowCapacity(spill.getOverflowCapacity());
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * 关闭时一并返回溢出缓冲区中尚未回填的任务
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = new ArrayList<>(super.shutdownNow());
+        for (OverflowSpillPolicy spill : overflowPolicies) {
+            spill.drainAll(tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * 当前生效的拒绝策略（不含计数包装层）
+     */
+    public RejectedExecutionHandler getRejectPolicyHandler() {
+        return trackingHandler.getDelegate();
+    }
+
     // 获取拒绝次数
     public long getRejectedExecutionCount() {
         return trackingHandler.getRejectionCount();
     }
     
+    /**
+     * 排队超过截止时间未执行的任务数
+     */
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
     // 获取队列数量
     public int getQueueSize() {
         return getQueue().size();
     }
+
+    /**
+     * 运行时调整队列容量，缩容不会丢弃已入队的任务。
+     * 不支持原地调整的队列（MPMC）迁移到同类型的新队列
+     */
+    public void setQueueCapacity(int capacity) {
+        if (queueType == QueueType.SYNCHRONOUS) {
+            throw new UnsupportedOperationException("SynchronousQueue 不支持设置容量");
+        }
+        if (workQueue.isResizable()) {
+            workQueue.setCapacity(capacity);
+        } else {
+            switchQueue(queueType, capacity);
+        }
+    }
+
+    // 获取队列容量
+    public int getQueueCapacity() {
+        return workQueue.getCapacity();
+    }
+
+    /**
+     * 在线切换队列引擎，已排队的任务按原顺序迁移到新队列。
+     * 新队列按 max(容量, 当前排队数) 创建后再收缩到目标容量，迁移过程不丢任务；
+     * 切换为 SYNCHRONOUS 时剩余任务重新提交，被拒绝的由当前线程直接执行。
+     */
+    public void switchQueue(QueueType type, int capacity) {
+        adjustLock.lock();
+        try {
+            int targetCapacity = type == QueueType.SYNCHRONOUS ? 0 : Math.max(1, capacity);
+            BlockingQueue<Runnable> target = WorkQueueFactory.create(type, Math.max(targetCapacity, workQueue.size()));
+            List<Runnable> overflow = workQueue.switchTo(target);
+            // 迁移完成后再应用按 key 限额，已排队的任务不因限额被挤出
+            if (target instanceof FairBlockingQueue fair) {
+                applyFairScheduling(fair);
+            }
+            if (target instanceof PriorityLaneBlockingQueue lanes) {
+                applyPriorityLanes(lanes);
+            }
+            if (target instanceof ResizableQueue<Runnable> resizable && resizable.getCapacity() != targetCapacity) {
+                resizable.setCapacity(targetCapacity);
+            }
+            QueueType oldType = queueType;
+            queueType = type;
+            log.info("[动态线程池] 队列切换 {} -> {}, 容量 {}, 待重新提交任务 {}", oldType, type, getQueueCapacity(), overflow.size());
+
+            for (Runnable task : overflow) {
+                try {
+                    super.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
+                }
+            }
+        } finally {
+            adjustLock.unlock();
+        }
+    }
 }
@@ -1,21 +1,89 @@
 package com.jovia.dynamic.threadpool.core.domain.pool;
 
+import com.jovia.dynamic.threadpool.core.utils.SystemMetricsMonitor;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.lang.NonNull;
-import org.springframework.stereotype.Component;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 自适应线程池启动器
+ * 所有单例创建完成后，将容器中的自适应线程池注册到控制循环
  * 
  * @author Jay
  * @date 2025-11-13-10:04
  */
-@Component
-public class AdaptiveThreadPoolStarter implements ApplicationContextAware {
+public class AdaptiveThreadPoolStarter implements ApplicationContextAware, SmartInitializingSingleton, DisposableBean {
+
+    private final ThreadPoolControlLoop controlLoop;
+    private ApplicationContext applicationContext;
+
+    public AdaptiveThreadPoolStarter(ThreadPoolControlLoop controlLoop) {
+        this.controlLoop = controlLoop;
+    }
+
     @Override
     public void setApplicationContext(@NonNull ApplicationContext applicationContext) throws BeansException {
-        // TODO: 初始化自适应调整相关组件
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        collectExecutors(applicationContext).forEach(controlLoop::register);
+    }
+
+    /**
+     * 收集容器中的自适应线程池，包括被接管的 ThreadPoolTaskExecutor 的底层执行器，按 Bean 名称索引。
+     * 按 ThreadPoolExecutor 类型查找，确保声明类型为 ThreadPoolExecutor、初始化后才被替换的 Bean 也会被创建并识别
+     */
+    public static Map<String, AdaptiveThreadPoolExecutor> collectExecutors(ListableBeanFactory beanFactory) {
+        Map<String, AdaptiveThreadPoolExecutor> executors = new LinkedHashMap<>();
+        beanFactory.getBeansOfType(ThreadPoolExecutor.class).forEach((name, executor) -> {
+            if (executor instanceof AdaptiveThreadPoolExecutor adaptive) {
+                executors.put(name, adaptive);
+            }
+        });
+        beanFactory.getBeansOfType(ThreadPoolTaskExecutor.class).forEach((name, executor) -> {
+            if (executor instanceof AdaptiveThreadPoolTaskExecutor adaptive && adaptive.getAdaptiveThreadPoolExecutor() != null) {
+                executors.put(name, adaptive.getAdaptiveThreadPoolExecutor());
+            }
+        });
+        return executors;
+    }
+
+    /**
+     * 收集容器中的 ForkJoin 执行器，按 Bean 名称索引
+     */
+    public static Map<String, AdaptiveForkJoinExecutor> collectForkJoinExecutors(ListableBeanFactory beanFactory) {
+        return new LinkedHashMap<>(beanFactory.getBeansOfType(AdaptiveForkJoinExecutor.class));
+    }
+
+    /**
+     * 收集容器中的定时线程池，按 Bean 名称索引
+     */
+    public static Map<String, ScheduledThreadPoolExecutor> collectScheduledExecutors(ListableBeanFactory beanFactory) {
+        return new LinkedHashMap<>(beanFactory.getBeansOfType(ScheduledThreadPoolExecutor.class));
+    }
+
+    /**
+     * 收集容器中的虚拟线程执行器，按 Bean 名称索引
+     */
+    public static Map<String, VirtualThreadPoolExecutor> collectVirtualExecutors(ListableBeanFactory beanFactory) {
+        return new LinkedHashMap<>(beanFactory.getBeansOfType(VirtualThreadPoolExecutor.class));
+    }
+
+    @Override
+    public void destroy() {
+        controlLoop.shutdown();
+        SystemMetricsMonitor.stop();
     }
 }
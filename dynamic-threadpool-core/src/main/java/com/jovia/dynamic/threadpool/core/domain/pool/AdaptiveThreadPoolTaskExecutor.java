@@ -0,0 +1,150 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.QueueType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 以 {@link AdaptiveThreadPoolExecutor} 为底层执行器的 ThreadPoolTaskExecutor
+ * 保留 Spring 的 TaskDecorator、生命周期暂停与优雅关闭；线程数、队列容量的读取直接取自底层执行器，
+ * 远程配置或自动调整后 getCorePoolSize 等读到的是实际值。
+ *
+ * @author Jay
+ * @date 2025-11-21-10:26
+ */
+@Slf4j
+public class AdaptiveThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private volatile AdaptiveThreadPoolExecutor adaptiveExecutor;
+
+    /**
+     * 复制尚未初始化或已初始化的 ThreadPoolTaskExecutor 的全部配置；
+     * 已初始化的原执行器在新执行器初始化时迁移排队任务并关闭
+     */
+    public static AdaptiveThreadPoolTaskExecutor from(ThreadPoolTaskExecutor source) {
+        AdaptiveThreadPoolTaskExecutor target = new AdaptiveThreadPoolTaskExecutor();
+        ReflectionUtils.shallowCopyFieldState(source, target);
+        return target;
+    }
+
+    public AdaptiveThreadPoolExecutor getAdaptiveThreadPoolExecutor() {
+        return adaptiveExecutor;
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolExecutor previous = adaptiveExecutor != null ? adaptiveExecutor : initializedDelegate();
+        int queueCapacity = super.getQueueCapacity();
+        TaskDecorator taskDecorator = (TaskDecorator) readField("taskDecorator");
+
+        AdaptiveThreadPoolExecutor executor = new AdaptiveThreadPoolExecutor(super.getCorePoolSize(), super.getMaxPoolSize(),
+                super.getKeepAliveSeconds(), TimeUnit.SECONDS,
+                queueCapacity > 0 ? QueueType.LINKED : QueueType.SYNCHRONOUS, Math.max(queueCapacity, 0),
+                threadFactory, rejectedExecutionHandler) {
+            // 在包装为 TimedRunnable 时装饰，按 key、优先级与截止时间提交的任务同样生效
+            @Override
+            protected Runnable decorate(Runnable task) {
+                return taskDecorator != null ? taskDecorator.decorate(task) : task;
+            }
+
+            @Override
+            protected void beforeExecute(Thread t, Runnable r) {
+                super.beforeExecute(t, r);
+                AdaptiveThreadPoolTaskExecutor.this.beforeExecute(t, r);
+            }
+
+            @Override
+            protected void afterExecute(Runnable r, Throwable t) {
+                AdaptiveThreadPoolTaskExecutor.this.afterExecute(r, t);
+                super.afterExecute(r, t);
+            }
+        };
+        if (Boolean.TRUE.equals(readField("allowCoreThreadTimeOut"))) {
+            executor.allowCoreThreadTimeOut(true);
+        }
+        if (Boolean.TRUE.equals(readField("prestartAllCoreThreads"))) {
+            executor.prestartAllCoreThreads();
+        }
+        this.adaptiveExecutor = executor;
+        // 与父类 initializeExecutor 一致，setCorePoolSize 等方法通过该字段作用于运行中的执行器
+        writeField("threadPoolExecutor", executor);
+
+        if (previous != null) {
+            // 复制自已初始化的 Bean，原执行器不再接收任务，排队任务转交新执行器
+            previous.shutdown();
+            List<Runnable> queued = new ArrayList<>();
+            previous.getQueue().drainTo(queued);
+            queued.forEach(executor::execute);
+            log.info("[动态线程池] 接管已初始化的 ThreadPoolTaskExecutor，迁移排队任务 {}", queued.size());
+        }
+        return executor;
+    }
+
+    // 原 Bean 已调用过 initialize 时，复制过来的私有字段中持有其执行器
+    private ThreadPoolExecutor initializedDelegate() {
+        return (ThreadPoolExecutor) readField("threadPoolExecutor");
+    }
+
+    // ThreadPoolTaskExecutor 未提供这些字段的 getter/setter
+    private Object readField(String name) {
+        Field field = ReflectionUtils.findField(ThreadPoolTaskExecutor.class, name);
+        if (field == null) {
+            return null;
+        }
+        ReflectionUtils.makeAccessible(field);
+        return ReflectionUtils.getField(field, this);
+    }
+
+    private void writeField(String name, Object value) {
+        Field field = ReflectionUtils.findField(ThreadPoolTaskExecutor.class, name);
+        if (field != null) {
+            ReflectionUtils.makeAccessible(field);
+            ReflectionUtils.setField(field, this, value);
+        }
+    }
+
+    @Override
+    public int getCorePoolSize() {
+        AdaptiveThreadPoolExecutor executor = adaptiveExecutor;
+        return executor != null ? executor.getCorePoolSize() : super.getCorePoolSize();
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+        AdaptiveThreadPoolExecutor executor = adaptiveExecutor;
+        return executor != null ? executor.getMaximumPoolSize() : super.getMaxPoolSize();
+    }
+
+    @Override
+    public int getKeepAliveSeconds() {
+        AdaptiveThreadPoolExecutor executor = adaptiveExecutor;
+        return executor != null ? (int) executor.getKeepAliveTime(TimeUnit.SECONDS) : super.getKeepAliveSeconds();
+    }
+
+    @Override
+    public void setQueueCapacity(int queueCapacity) {
+        super.setQueueCapacity(queueCapacity);
+        AdaptiveThreadPoolExecutor executor = adaptiveExecutor;
+        if (executor != null && executor.getQueueType() != QueueType.SYNCHRONOUS && queueCapacity > 0) {
+            executor.setQueueCapacity(queueCapacity);
+        }
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        AdaptiveThreadPoolExecutor executor = adaptiveExecutor;
+        return executor != null ? executor.getQueueCapacity() : super.getQueueCapacity();
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.RejectPolicy;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按排队时长丢弃队首的策略
+ * 队首任务已排队超过 maxAgeMs 时丢弃它并让新任务入队：等待过久的任务大概率已超出调用方的超时，执行也没有意义；
+ * 队首仍较新时拒绝新任务，不会像 DiscardOldestPolicy 那样在持续过载时把刚入队的任务也挤掉。
+ * 被丢弃的任务若为 Future 则取消，等待结果的调用方不会永久阻塞。优先级类队列的队首是下一个将执行的任务，按其排队时长判断。
+ * 丢弃后空出的位置可能先被其他提交方占用，此时新任务按正常拒绝流程抛出异常，已发生的丢弃仍计入丢弃数。
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+public class AgedDiscardOldestPolicy extends AbstractRejectPolicy {
+
+    private final long maxAgeNanos;
+
+    public AgedDiscardOldestPolicy(long maxAgeMs) {
+        super(RejectPolicy.AGED_DISCARD_OLDEST, maxAgeMs);
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+    }
+
+    @Override
+    Outcome handle(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            return Outcome.FAILED;
+        }
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        Runnable head = queue.peek();
+        if (!(head instanceof TimedRunnable tr) || System.nanoTime() - tr.submitTime < maxAgeNanos
+                || !queue.remove(head)) {
+            return Outcome.FAILED;
+        }
+        if (tr.task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+        return queue.offer(r) ? Outcome.DISCARDED : Outcome.DISCARDED_FAILED;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * 有界、可调容量的优先级队列
+ * PriorityBlockingQueue 无界，无法配合线程池的扩容与拒绝策略，这里在二叉堆外加容量限制。
+ * 迭代顺序不保证与出队顺序一致。
+ *
+ * @author Jay
+ * @date 2025-11-19-22:05
+ */
+public class BoundedPriorityBlockingQueue<E> extends AbstractResizableLockQueue<E> {
+
+    private final PriorityQueue<E> heap;
+
+    public BoundedPriorityBlockingQueue(int capacity, Comparator<? super E> comparator) {
+        super(capacity);
+        this.heap = new PriorityQueue<>(Math.min(capacity, 1024), comparator);
+    }
+
+    @Override
+    protected void doEnqueue(E e) {
+        heap.offer(e);
+    }
+
+    @Override
+    protected E doDequeue() {
+        return heap.poll();
+    }
+
+    @Override
+    protected E doPeek() {
+        return heap.peek();
+    }
+
+    @Override
+    protected boolean doRemove(Object o) {
+        return heap.remove(o);
+    }
+
+    @Override
+    protected Object[] doToArray() {
+        return heap.toArray();
+    }
+
+    @Override
+    protected void doClear() {
+        heap.clear();
+    }
+}
@@ -0,0 +1,26 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * 带截止时间的 FutureTask
+ * 出队时已超过截止时间则不执行，Future 以 {@link TaskExpiredException} 异常结束，调用方可以与超时、拒绝区分处理
+ *
+ * @author Jay
+ * @date 2025-11-23-15:10
+ */
+public class DeadlineFutureTask<V> extends FutureTask<V> {
+
+    public DeadlineFutureTask(Callable<V> callable) {
+        super(callable);
+    }
+
+    public DeadlineFutureTask(Runnable runnable, V result) {
+        super(runnable, result);
+    }
+
+    void expire(long queueWaitMs) {
+        setException(new TaskExpiredException(queueWaitMs));
+    }
+}
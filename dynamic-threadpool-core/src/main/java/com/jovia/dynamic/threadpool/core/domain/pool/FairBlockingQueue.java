@@ -0,0 +1,283 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.entity.FairKeyMetrics;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 按 key 加权公平调度的有界队列（赤字轮询，DRR）
+ * 每个 key 一个子队列，出队时轮流服务有任务的子队列，每轮可连续出队的任务数等于其权重，
+ * 单个 key 积压再多也只占用自己的份额，不会饿死其他 key。未指定 key 的任务归入同一个默认分组。
+ * 除总容量外还可限制单个 key 的排队数，超出时该 key 的提交被拒绝，其他 key 不受影响；
+ * 执行器在提交前按同样的限额做准入（{@link #admit}）并预占名额，超限的提交直接走拒绝策略，不会触发创建非核心线程；
+ * 按 key 的拒绝数只统计限额拒绝，总容量已满时由线程池扩线程或拒绝策略处理，不计入。
+ * 阻塞入队的线程被唤醒时不区分 key，依赖调用方的限时等待重试（{@link SwitchableBlockingQueue} 每次最多等待 1 秒）。
+ *
+ * @author Jay
+ * @date 2025-11-23-14:05
+ */
+public class FairBlockingQueue extends AbstractResizableLockQueue<Runnable> {
+
+    static final String DEFAULT_KEY = "";
+    static final int DEFAULT_WEIGHT = 1;
+
+    // 空闲 key 超过该数量后，子队列变空（出队、移除、清空或只有拒绝）时即移除，避免 key 数无限增长；移除后该 key 的累计指标重新计数
+    private static final int MAX_IDLE_KEYS = 1024;
+
+    private final Map<String, SubQueue> subQueues = new HashMap<>();
+    // 有任务的子队列，队首为当前正在服务的子队列
+    private final ArrayDeque<SubQueue> active = new ArrayDeque<>();
+
+    private volatile int keyCapacity;
+    private volatile Map<String, Integer> weights = Collections.emptyMap();
+
+    public FairBlockingQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * 单个 key 的排队上限，0 表示只受总容量限制
+     */
+    public int getKeyCapacity() {
+        return keyCapacity;
+    }
+
+    public void setKeyCapacity(int keyCapacity) {
+        lock.lock();
+        try {
+            this.keyCapacity = Math.max(0, keyCapacity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * 设置各 key 的权重，未配置的 key 权重为 1；下一轮调度生效
+     */
+    public void setWeights(Map<String, Integer> weights) {
+        Map<String, Integer> copy = new LinkedHashMap<>();
+        weights.forEach((key, weight) -> copy.put(key, Math.max(1, weight)));
+        this.weights = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * 解析 "tenantA=3,tenantB=1" 形式的权重配置，非法项忽略
+     */
+    public static Map<String, Integer> parseWeights(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        if (StringUtils.isBlank(value)) {
+            return weights;
+        }
+        for (String item : value.split(",")) {
+            int idx = item.lastIndexOf('=');
+            if (idx <= 0) {
+                continue;
+            }
+            try {
+                weights.put(item.substring(0, idx).trim(), Integer.parseInt(item.substring(idx + 1).trim()));
+            } catch (NumberFormatException ignored) {
+                // 非法权重忽略
+            }
+        }
+        return weights;
+    }
+
+    public static String formatWeights(Map<String, Integer> weights) {
+        StringJoiner joiner = new StringJoiner(",");
+        weights.forEach((key, weight) -> joiner.add(key + "=" + weight));
+        return joiner.toString();
+    }
+
+    /**
+     * 各 key 的排队指标快照
+     */
+    public List<FairKeyMetrics> keyMetrics() {
+        lock.lock();
+        try {
+            List<FairKeyMetrics> metrics = new ArrayList<>(subQueues.size());
+            for (SubQueue q : subQueues.values()) {
+                metrics.add(FairKeyMetrics.builder()
+                        .key(q.key)
+                        .weight(weightOf(q.key))
+                        .queueSize(q.tasks.size())
+                        .enqueuedCount(q.enqueued)
+                        .dequeuedCount(q.dequeued)
+                        .rejectedCount(q.rejected)
+                        .avgQueueWait(q.dequeued > 0 ? q.waitNanos / 1_000_000.0 / q.dequeued : 0.0)
+                        .maxQueueWait(q.maxWaitNanos / 1_000_000.0)
+                        .build());
+            }
+            return metrics;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void onRejected(Runnable e) {
+        SubQueue q = subQueue(keyOf(e));
+        q.rejected++;
+        evictIfIdle(q);
+    }
+
+    @Override
+    protected void reserve(Runnable e) {
+        subQueue(keyOf(e)).reserved++;
+    }
+
+    @Override
+    protected void unreserve(Runnable e) {
+        SubQueue q = subQueues.get(keyOf(e));
+        if (q != null) {
+            q.reserved--;
+            evictIfIdle(q);
+        }
+    }
+
+    @Override
+    protected boolean canEnqueue(Runnable e) {
+        int cap = keyCapacity;
+        if (cap <= 0) {
+            return true;
+        }
+        SubQueue q = subQueues.get(keyOf(e));
+        return q == null || q.tasks.size() + q.reserved < cap;
+    }
+
+    @Override
+    protected void doEnqueue(Runnable e) {
+        SubQueue q = subQueue(keyOf(e));
+        if (q.tasks.isEmpty()) {
+            active.addLast(q);
+        }
+        q.tasks.addLast(e);
+        q.enqueued++;
+    }
+
+    @Override
+    protected Runnable doDequeue() {
+        SubQueue q = active.peekFirst();
+        // 轮到该子队列时按权重补充额度，每出队一个任务消耗 1
+        if (q.deficit <= 0) {
+            q.deficit = weightOf(q.key);
+        }
+        Runnable e = q.tasks.pollFirst();
+        q.deficit--;
+        q.dequeued++;
+        if (e instanceof TimedRunnable tr) {
+            long wait = System.nanoTime() - tr.submitTime;
+            q.waitNanos += wait;
+            q.maxWaitNanos = Math.max(q.maxWaitNanos, wait);
+        }
+
+        if (q.tasks.isEmpty()) {
+            active.pollFirst();
+            q.deficit = 0;
+            evictIfIdle(q);
+        } else if (q.deficit <= 0) {
+            active.addLast(active.pollFirst());
+        }
+        return e;
+    }
+
+    @Override
+    protected Runnable doPeek() {
+        SubQueue q = active.peekFirst();
+        return q == null ? null : q.tasks.peekFirst();
+    }
+
+    @Override
+    protected boolean doRemove(Object o) {
+        String key = o instanceof TimedRunnable tr && tr.fairKey != null ? tr.fairKey : null;
+        for (Iterator<SubQueue> it = active.iterator(); it.hasNext(); ) {
+            SubQueue q = it.next();
+            if (key != null && !key.equals(q.key)) {
+                continue;
+            }
+            if (q.tasks.remove(o)) {
+                if (q.tasks.isEmpty()) {
+                    it.remove();
+                    q.deficit = 0;
+                    evictIfIdle(q);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Object[] doToArray() {
+        Object[] a = new Object[count()];
+        int i = 0;
+        for (SubQueue q : active) {
+            for (Runnable e : q.tasks) {
+                a[i++] = e;
+            }
+        }
+        return a;
+    }
+
+    @Override
+    protected void doClear() {
+        for (SubQueue q : active) {
+            q.tasks.clear();
+            q.deficit = 0;
+        }
+        active.clear();
+        // 清空后全部子队列都是空闲的，超出上限的部分一并移除
+        for (Iterator<SubQueue> it = subQueues.values().iterator(); it.hasNext() && subQueues.size() > MAX_IDLE_KEYS; ) {
+            if (it.next().reserved == 0) {
+                it.remove();
+            }
+        }
+    }
+
+    private void evictIfIdle(SubQueue q) {
+        if (q.tasks.isEmpty() && q.reserved == 0 && subQueues.size() > MAX_IDLE_KEYS) {
+            subQueues.remove(q.key);
+        }
+    }
+
+    private SubQueue subQueue(String key) {
+        return subQueues.computeIfAbsent(key, SubQueue::new);
+    }
+
+    private int weightOf(String key) {
+        return weights.getOrDefault(key, DEFAULT_WEIGHT);
+    }
+
+    private static String keyOf(Runnable e) {
+        return e instanceof TimedRunnable tr && tr.fairKey != null ? tr.fairKey : DEFAULT_KEY;
+    }
+
+    private static final class SubQueue {
+        final String key;
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        int deficit;
+        // 已通过准入、尚未入队的提交数
+        int reserved;
+        long enqueued;
+        long dequeued;
+        long rejected;
+        long waitNanos;
+        long maxWaitNanos;
+
+        SubQueue(String key) {
+            this.key = key;
+        }
+    }
+}
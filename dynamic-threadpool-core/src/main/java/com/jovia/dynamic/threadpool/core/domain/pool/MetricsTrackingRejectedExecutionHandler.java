@@ -1,32 +1,142 @@
 package com.jovia.dynamic.threadpool.core.domain.pool;
 
+import com.jovia.dynamic.threadpool.core.domain.metrics.SlidingWindowCounter;
+import com.jovia.dynamic.threadpool.core.model.entity.RejectPolicyMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 增强的拒绝策略，用于跟踪拒绝次数
+ * 实际策略可在运行时替换，按策略分别统计处理结果（吸收 / 丢弃 / 报错）与最近 10 秒的拒绝速率。
  * @author Jay
  * @date 2025-10-29-19:38
  */
 public class MetricsTrackingRejectedExecutionHandler implements RejectedExecutionHandler {
 
+    private static final int RATE_BUCKETS = 10;
+    private static final long RATE_BUCKET_MS = 1000L;
+
     private final double alpha = 0.3; // 平滑因子，可调
     
-    private final RejectedExecutionHandler delegate;
-    private final AtomicLong rejectionCount = new AtomicLong(0);
+    // 运行时可替换，拒绝计数不随策略切换清零；策略与其统计一起替换，拒绝时无需按名称查找
+    private volatile ActivePolicy active;
+    private final LongAdder rejectionCount = new LongAdder();
+    private final SlidingWindowCounter recentRejections = new SlidingWindowCounter(RATE_BUCKETS, RATE_BUCKET_MS);
+    private final Map<String, PolicyStats> policyStats = new ConcurrentHashMap<>();
 
     public MetricsTrackingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
-        this.delegate = delegate;
+        setDelegate(delegate);
     }
 
     @Override
     public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
-        rejectionCount.incrementAndGet();
-        delegate.rejectedExecution(r, executor);
+        rejectionCount.increment();
+        long now = System.currentTimeMillis();
+        recentRejections.increment(now);
+
+        ActivePolicy current = active;
+        RejectedExecutionHandler handler = current.handler;
+        PolicyStats stats = current.stats;
+        stats.rejected.increment();
+        stats.recent.increment(now);
+
+        AbstractRejectPolicy.Outcome outcome;
+        try {
+            if (handler instanceof AbstractRejectPolicy policy) {
+                outcome = policy.handle(r, executor);
+            } else {
+                handler.rejectedExecution(r, executor);
+                outcome = outcomeOf(handler, executor);
+            }
+        } catch (RejectedExecutionException e) {
+            stats.failed.increment();
+            throw e;
+        }
+        switch (outcome) {
+            case ABSORBED -> stats.absorbed.increment();
+            case DISCARDED -> stats.discarded.increment();
+            case DISCARDED_FAILED -> {
+                stats.discarded.increment();
+                stats.failed.increment();
+                throw ((AbstractRejectPolicy) handler).rejected(r, executor);
+            }
+            case FAILED -> {
+                stats.failed.increment();
+                throw ((AbstractRejectPolicy) handler).rejected(r, executor);
+            }
+        }
+    }
+
+    // JDK 策略没有返回值，按策略语义推断；未知的自定义策略正常返回时视为已吸收
+    private static AbstractRejectPolicy.Outcome outcomeOf(RejectedExecutionHandler handler, ThreadPoolExecutor executor) {
+        if (handler instanceof ThreadPoolExecutor.DiscardPolicy || handler instanceof ThreadPoolExecutor.DiscardOldestPolicy
+                || (handler instanceof ThreadPoolExecutor.CallerRunsPolicy && executor.isShutdown())) {
+            return AbstractRejectPolicy.Outcome.DISCARDED;
+        }
+        return AbstractRejectPolicy.Outcome.ABSORBED;
+    }
+
+    public RejectedExecutionHandler getDelegate() {
+        return active.handler;
+    }
+
+    public void setDelegate(RejectedExecutionHandler delegate) {
+        PolicyStats stats = policyStats.computeIfAbsent(RejectPolicyFactory.nameOf(delegate), k -> new PolicyStats());
+        this.active = new ActivePolicy(delegate, stats);
     }
 
     public long getRejectionCount() {
-        return rejectionCount.get();
+        return rejectionCount.sum();
+    }
+
+    /**
+     * 最近 10 秒内平均每秒拒绝次数
+     */
+    public double getRecentRejectionRate() {
+        return recentRejections.ratePerSecond(System.currentTimeMillis());
+    }
+
+    /**
+     * 各策略的处理指标，当前策略即使尚未处理过拒绝也会列出
+     */
+    public List<RejectPolicyMetrics> policyMetrics() {
+        long now = System.currentTimeMillis();
+        PolicyStats activeStats = active.stats;
+        List<RejectPolicyMetrics> metrics = new ArrayList<>(policyStats.size());
+        policyStats.forEach((policy, stats) -> metrics.add(RejectPolicyMetrics.builder()
+                .policy(policy)
+                .active(stats == activeStats)
+                .rejectedCount(stats.rejected.sum())
+                .absorbedCount(stats.absorbed.sum())
+                .discardedCount(stats.discarded.sum())
+                .failedCount(stats.failed.sum())
+                .rejectRate(stats.recent.ratePerSecond(now))
+                .build()));
+        return metrics;
+    }
+
+    private static final class ActivePolicy {
+        final RejectedExecutionHandler handler;
+        final PolicyStats stats;
+
+        ActivePolicy(RejectedExecutionHandler handler, PolicyStats stats) {
+            this.handler = handler;
+            this.stats = stats;
+        }
+    }
+
+    private static final class PolicyStats {
+        final LongAdder rejected = new LongAdder();
+        final LongAdder absorbed = new LongAdder();
+        final LongAdder discarded = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final SlidingWindowCounter recent = new SlidingWindowCounter(RATE_BUCKETS, RATE_BUCKET_MS);
     }
 }
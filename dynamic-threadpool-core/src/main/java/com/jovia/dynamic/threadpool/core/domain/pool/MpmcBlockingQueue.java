@@ -0,0 +1,341 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 无锁有界多生产者多消费者队列（Vyukov 序号环形数组）
+ * offer/poll 只依赖 CAS，适合生产者扇入很高的线程池；只有队列空/满需要阻塞等待时才会用到锁。
+ * 环形数组在构造时分配，容量不可原地调整，调整容量由执行器迁移到新队列完成。
+ *
+ * @author Jay
+ * @date 2025-11-19-22:20
+ */
+public class MpmcBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    // 被 remove 的元素替换为墓碑，出队时跳过
+    private static final Object TOMBSTONE = new Object();
+
+    // 入队、出队游标放在 positions 中相距 128 字节的位置，避免伪共享
+    private static final int ENQUEUE = 15;
+    private static final int DEQUEUE = 31;
+
+    private final int capacity;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray positions = new AtomicLongArray(47);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    // 阻塞等待的线程数，仅在持锁时修改
+    private volatile int takeWaiters;
+    private volatile int putWaiters;
+
+    public MpmcBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must > 0");
+        }
+        this.capacity = capacity;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private boolean tryEnqueue(E e) {
+        for (;;) {
+            long pos = positions.get(ENQUEUE);
+            int index = (int) (pos % capacity);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (positions.compareAndSet(ENQUEUE, pos, pos + 1)) {
+                    buffer.set(index, e);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E tryDequeue() {
+        for (;;) {
+            long pos = positions.get(DEQUEUE);
+            int index = (int) (pos % capacity);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (positions.compareAndSet(DEQUEUE, pos, pos + 1)) {
+                    Object x = buffer.getAndSet(index, null);
+                    sequences.set(index, pos + capacity);
+                    if (x != TOMBSTONE) {
+                        return (E) x;
+                    }
+                }
+            } else if (diff < 0) {
+                return null;
+            }
+        }
+    }
+
+    private void signalNotEmpty() {
+        lock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        lock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        if (!tryEnqueue(e)) {
+            return false;
+        }
+        if (takeWaiters > 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        E x = tryDequeue();
+        if (x != null && putWaiters > 0) {
+            signalNotFull();
+        }
+        return x;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        if (offer(e)) {
+            return;
+        }
+        lock.lockInterruptibly();
+        try {
+            putWaiters++;
+            try {
+                while (!offer(e)) {
+                    notFull.await();
+                }
+            } finally {
+                putWaiters--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (offer(e)) {
+            return true;
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            putWaiters++;
+            try {
+                while (!offer(e)) {
+                    if (nanos <= 0L) {
+                        return false;
+                    }
+                    nanos = notFull.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                putWaiters--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E x = poll();
+        if (x != null) {
+            return x;
+        }
+        lock.lockInterruptibly();
+        try {
+            takeWaiters++;
+            try {
+                while ((x = poll()) == null) {
+                    notEmpty.await();
+                }
+                return x;
+            } finally {
+                takeWaiters--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E x = poll();
+        if (x != null) {
+            return x;
+        }
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            takeWaiters++;
+            try {
+                while ((x = poll()) == null) {
+                    if (nanos <= 0L) {
+                        return null;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+                return x;
+            } finally {
+                takeWaiters--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 近似值：墓碑与正在出入队的槽位也会计入
+     */
+    @Override
+    public int size() {
+        long size = positions.get(ENQUEUE) - positions.get(DEQUEUE);
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        for (long pos = positions.get(DEQUEUE), end = positions.get(ENQUEUE); pos < end; pos++) {
+            Object x = buffer.get((int) (pos % capacity));
+            if (x != null && x != TOMBSTONE) {
+                return (E) x;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 将匹配的元素原地替换为墓碑；与出队竞争失败时说明元素已被取走，返回 false
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        for (long pos = positions.get(DEQUEUE), end = positions.get(ENQUEUE); pos < end; pos++) {
+            int index = (int) (pos % capacity);
+            Object x = buffer.get(index);
+            if (x != null && x != TOMBSTONE && o.equals(x) && buffer.compareAndSet(index, x, TOMBSTONE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        E x;
+        while (n < maxElements && (x = poll()) != null) {
+            c.add(x);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * 弱一致快照
+     */
+    @Override
+    public Object[] toArray() {
+        List<Object> snapshot = new ArrayList<>();
+        for (long pos = positions.get(DEQUEUE), end = positions.get(ENQUEUE); pos < end; pos++) {
+            Object x = buffer.get((int) (pos % capacity));
+            if (x != null && x != TOMBSTONE) {
+                snapshot.add(x);
+            }
+        }
+        return snapshot.toArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        Object[] snapshot = toArray();
+        List<E> elements = new ArrayList<>(snapshot.length);
+        for (Object x : snapshot) {
+            elements.add((E) x);
+        }
+        Iterator<E> it = elements.iterator();
+        return new Iterator<>() {
+            private E lastRet;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return lastRet = it.next();
+            }
+
+            @Override
+            public void remove() {
+                if (lastRet == null) {
+                    throw new IllegalStateException();
+                }
+                MpmcBlockingQueue.this.remove(lastRet);
+                lastRet = null;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.RejectPolicy;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 溢出缓冲策略
+ * 主队列已满时把任务放入容量为 capacity 的溢出缓冲区，由执行器在工作线程取走任务后按 FIFO 回填主队列，
+ * 突发流量先由缓冲区吸收，不转化为提交方的异常；缓冲区也满时才拒绝。
+ * 回填由 {@link AdaptiveThreadPoolExecutor} 驱动，缓冲区中的任务不计入主队列长度，关闭时由 shutdownNow 一并返回。
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+public class OverflowSpillPolicy extends AbstractRejectPolicy {
+
+    private final ArrayBlockingQueue<Runnable> overflow;
+    // 同一时刻只有一个线程回填，peek 与 poll 之间不会被其他回填线程插入
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final LongAdder drainedCount = new LongAdder();
+
+    public OverflowSpillPolicy(long capacity) {
+        super(RejectPolicy.OVERFLOW_SPILL, capacity);
+        this.overflow = new ArrayBlockingQueue<>((int) Math.min(Integer.MAX_VALUE, capacity));
+    }
+
+    @Override
+    Outcome handle(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown() || !overflow.offer(r)) {
+            return Outcome.FAILED;
+        }
+        // 放入缓冲区期间工作线程可能已全部空闲，立即尝试回填一次
+        drainTo(executor.getQueue());
+        return Outcome.ABSORBED;
+    }
+
+    /**
+     * 把缓冲区中的任务按顺序回填到主队列，直到主队列满；其他线程正在回填时直接返回
+     *
+     * @return 回填的任务数
+     */
+    int drainTo(BlockingQueue<Runnable> queue) {
+        if (overflow.isEmpty() || !drainLock.tryLock()) {
+            return 0;
+        }
+        try {
+            int drained = 0;
+            Runnable r;
+            while ((r = overflow.peek()) != null && queue.offer(r)) {
+                overflow.poll();
+                drained++;
+            }
+            drainedCount.add(drained);
+            return drained;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 取出缓冲区中的全部任务，用于 shutdownNow
+     */
+    void drainAll(List<Runnable> tasks) {
+        drainLock.lock();
+        try {
+            overflow.drainTo(tasks);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    public int getOverflowSize() {
+        return overflow.size();
+    }
+
+    public int getOverflowCapacity() {
+        return overflow.size() + overflow.remainingCapacity();
+    }
+
+    public long getDrainedCount() {
+        return drainedCount.sum();
+    }
+}
@@ -0,0 +1,12 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+/**
+ * 带优先级的任务，配合优先级队列使用，数值越大越先执行
+ *
+ * @author Jay
+ * @date 2025-11-19-21:20
+ */
+public interface PrioritizedTask extends Runnable {
+
+    int getPriority();
+}
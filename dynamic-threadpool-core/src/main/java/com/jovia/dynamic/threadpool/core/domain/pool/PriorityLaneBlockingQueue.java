@@ -0,0 +1,313 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.entity.PriorityLaneMetrics;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多通道优先级队列（带老化）
+ * 每个优先级一个 FIFO 通道，优先级 0 最低，超出范围的优先级归入最近的通道。出队时比较各非空通道的有效优先级：
+ * 通道优先级 + 距该通道上次出队的时间 / 老化周期，取最大者，同分时高优先级通道优先。
+ * 低优先级通道每多等一个老化周期提升一级，高优先级持续繁忙时也能按固定间隔得到一次服务，不会被无限期饿死；
+ * 老化按通道而不是按任务计时，出队一次即重新计时，低优先级积压再久也只是周期性占用一个出队机会，不会反过来压住高优先级。
+ * 出队只比较各通道，复杂度为 O(通道数)。
+ * 除总容量外每个通道可单独限额，批量任务灌满自己的通道后只拒绝同通道的提交，交互任务仍可入队；
+ * 执行器在提交前按通道限额做准入（{@link #admit}）并预占名额，超限的提交直接走拒绝策略，不会借非核心线程插队执行；
+ * 通道拒绝数只统计限额拒绝，总容量已满时由线程池扩线程或拒绝策略处理，不计入。
+ * 队首（peek）与出队使用同一选择规则，队首即下一个将被执行的任务。
+ *
+ * @author Jay
+ * @date 2025-11-23-15:40
+ */
+public class PriorityLaneBlockingQueue extends AbstractResizableLockQueue<Runnable> {
+
+    static final int DEFAULT_LANES = 3;
+    static final long DEFAULT_AGING_MS = 1000L;
+
+    private Lane[] lanes;
+    private volatile long agingNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_AGING_MS);
+
+    public PriorityLaneBlockingQueue(int capacity) {
+        super(capacity);
+        this.lanes = newLanes(new int[DEFAULT_LANES]);
+    }
+
+    /**
+     * 解析 "5000,1000,100" 形式的通道容量，按优先级从低到高排列，0 表示只受总容量限制；非法项按 0 处理
+     */
+    public static int[] parseCapacities(String value) {
+        if (StringUtils.isBlank(value)) {
+            return new int[0];
+        }
+        String[] items = value.split(",");
+        int[] capacities = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            try {
+                capacities[i] = Math.max(0, Integer.parseInt(items[i].trim()));
+            } catch (NumberFormatException ignored) {
+                // 非法容量按不限额处理
+            }
+        }
+        return capacities;
+    }
+
+    public static String formatCapacities(int[] capacities) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (int capacity : capacities) {
+            joiner.add(String.valueOf(capacity));
+        }
+        return joiner.toString();
+    }
+
+    public long getAgingMs() {
+        return TimeUnit.NANOSECONDS.toMillis(agingNanos);
+    }
+
+    /**
+     * 设置老化周期，通道每一个周期未得到服务提升一级
+     */
+    public void setAgingMs(long agingMs) {
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, agingMs));
+    }
+
+    public int[] getLaneCapacities() {
+        lock.lock();
+        try {
+            int[] capacities = new int[lanes.length];
+            for (int i = 0; i < lanes.length; i++) {
+                capacities[i] = lanes[i].capacity;
+            }
+            return capacities;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 设置各通道容量，数组长度即通道数。通道数变化时已排队的任务按优先级重新分配，
+     * 合并到同一通道的任务按提交时间排序；缩小容量不会挤出已排队的任务
+     */
+    public void setLaneCapacities(int[] capacities) {
+        if (capacities.length == 0) {
+            throw new IllegalArgumentException("lane count must > 0");
+        }
+        lock.lock();
+        try {
+            if (capacities.length == lanes.length) {
+                for (int i = 0; i < lanes.length; i++) {
+                    lanes[i].capacity = Math.max(0, capacities[i]);
+                }
+                return;
+            }
+            List<Runnable> queued = new ArrayList<>(count());
+            for (Lane lane : lanes) {
+                queued.addAll(lane.tasks);
+            }
+            queued.sort(Comparator.comparingLong(PriorityLaneBlockingQueue::submitTimeOf));
+            Lane[] rebuilt = newLanes(capacities);
+            long now = System.nanoTime();
+            for (Runnable e : queued) {
+                Lane lane = rebuilt[laneOf(e, rebuilt.length)];
+                lane.tasks.addLast(e);
+                lane.servedAt = now;
+            }
+            // 预占随通道迁移，通道数减少时归入最高通道
+            for (int i = 0; i < lanes.length; i++) {
+                rebuilt[Math.min(i, rebuilt.length - 1)].reserved += lanes[i].reserved;
+            }
+            lanes = rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 各通道的排队指标快照，按优先级从低到高排列
+     */
+    public List<PriorityLaneMetrics> laneMetrics() {
+        lock.lock();
+        try {
+            List<PriorityLaneMetrics> metrics = new ArrayList<>(lanes.length);
+            for (int i = 0; i < lanes.length; i++) {
+                Lane lane = lanes[i];
+                metrics.add(PriorityLaneMetrics.builder()
+                        .priority(i)
+                        .capacity(lane.capacity)
+                        .queueSize(lane.tasks.size())
+                        .enqueuedCount(lane.enqueued)
+                        .dequeuedCount(lane.dequeued)
+                        .rejectedCount(lane.rejected)
+                        .agedCount(lane.aged)
+                        .avgQueueWait(lane.dequeued > 0 ? lane.waitNanos / 1_000_000.0 / lane.dequeued : 0.0)
+                        .maxQueueWait(lane.maxWaitNanos / 1_000_000.0)
+                        .build());
+            }
+            return metrics;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void onRejected(Runnable e) {
+        lanes[laneOf(e, lanes.length)].rejected++;
+    }
+
+    @Override
+    protected void reserve(Runnable e) {
+        lanes[laneOf(e, lanes.length)].reserved++;
+    }
+
+    @Override
+    protected void unreserve(Runnable e) {
+        // 通道数调整后任务所属通道可能与预占时不同，不减为负数
+        Lane lane = lanes[laneOf(e, lanes.length)];
+        lane.reserved = Math.max(0, lane.reserved - 1);
+    }
+
+    @Override
+    protected boolean canEnqueue(Runnable e) {
+        Lane lane = lanes[laneOf(e, lanes.length)];
+        return lane.capacity <= 0 || lane.tasks.size() + lane.reserved < lane.capacity;
+    }
+
+    @Override
+    protected void doEnqueue(Runnable e) {
+        Lane lane = lanes[laneOf(e, lanes.length)];
+        // 通道由空转为非空时开始计时
+        if (lane.tasks.isEmpty()) {
+            lane.servedAt = System.nanoTime();
+        }
+        lane.tasks.addLast(e);
+        lane.enqueued++;
+    }
+
+    @Override
+    protected Runnable doDequeue() {
+        long now = System.nanoTime();
+        int selected = selectLane(now);
+        boolean aged = selected != highestNonEmptyLane();
+
+        Lane lane = lanes[selected];
+        Runnable e = lane.tasks.pollFirst();
+        lane.servedAt = now;
+        lane.dequeued++;
+        if (aged) {
+            lane.aged++;
+        }
+        if (e instanceof TimedRunnable tr) {
+            long wait = now - tr.submitTime;
+            lane.waitNanos += wait;
+            lane.maxWaitNanos = Math.max(lane.maxWaitNanos, wait);
+        }
+        return e;
+    }
+
+    @Override
+    protected Runnable doPeek() {
+        int selected = selectLane(System.nanoTime());
+        return selected < 0 ? null : lanes[selected].tasks.peekFirst();
+    }
+
+    // 有效优先级最高的非空通道，全部为空时返回 -1；从高到低遍历，同分保留先遇到的高优先级通道
+    private int selectLane(long now) {
+        double aging = agingNanos;
+        int selected = -1;
+        double best = -1.0;
+        for (int i = lanes.length - 1; i >= 0; i--) {
+            if (lanes[i].tasks.isEmpty()) {
+                continue;
+            }
+            double score = i + (now - lanes[i].servedAt) / aging;
+            if (score > best) {
+                best = score;
+                selected = i;
+            }
+        }
+        return selected;
+    }
+
+    private int highestNonEmptyLane() {
+        for (int i = lanes.length - 1; i >= 0; i--) {
+            if (!lanes[i].tasks.isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    protected boolean doRemove(Object o) {
+        if (o instanceof Runnable r && lanes[laneOf(r, lanes.length)].tasks.remove(o)) {
+            return true;
+        }
+        for (Lane lane : lanes) {
+            if (lane.tasks.remove(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Object[] doToArray() {
+        Object[] a = new Object[count()];
+        int i = 0;
+        for (int l = lanes.length - 1; l >= 0; l--) {
+            for (Runnable e : lanes[l].tasks) {
+                a[i++] = e;
+            }
+        }
+        return a;
+    }
+
+    @Override
+    protected void doClear() {
+        for (Lane lane : lanes) {
+            lane.tasks.clear();
+        }
+    }
+
+    private static Lane[] newLanes(int[] capacities) {
+        Lane[] lanes = new Lane[capacities.length];
+        for (int i = 0; i < capacities.length; i++) {
+            lanes[i] = new Lane(Math.max(0, capacities[i]));
+        }
+        return lanes;
+    }
+
+    private static int laneOf(Runnable e, int laneCount) {
+        int priority = e instanceof TimedRunnable tr ? tr.priority : 0;
+        return Math.max(0, Math.min(priority, laneCount - 1));
+    }
+
+    private static long submitTimeOf(Runnable e) {
+        return e instanceof TimedRunnable tr ? tr.submitTime : Long.MIN_VALUE;
+    }
+
+    private static final class Lane {
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        int capacity;
+        // 已通过准入、尚未入队的提交数
+        int reserved;
+        long enqueued;
+        long dequeued;
+        long rejected;
+        // 上次出队时间，通道为空时无意义
+        long servedAt;
+        // 因老化先于更高优先级通道出队的次数
+        long aged;
+        long waitNanos;
+        long maxWaitNanos;
+
+        Lane(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.RejectPolicy;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 限速的调用方执行策略
+ * 与 CallerRunsPolicy 一样由提交线程执行被拒绝的任务，对提交方形成背压；但按令牌桶限制每秒最多执行 permitsPerSecond 个，
+ * 超出时直接拒绝，避免持续过载时提交线程（如 Web 容器线程）被大量后台任务占满。令牌桶容量为一秒的配额，可吸收短时突发。
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+public class RateLimitedCallerRunsPolicy extends AbstractRejectPolicy {
+
+    private final double permitsPerNano;
+    private final double maxTokens;
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    public RateLimitedCallerRunsPolicy(long permitsPerSecond) {
+        super(RejectPolicy.RATE_LIMITED_CALLER_RUNS, permitsPerSecond);
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000.0;
+        this.maxTokens = permitsPerSecond;
+        this.tokens = permitsPerSecond;
+    }
+
+    @Override
+    Outcome handle(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown() || !tryAcquire()) {
+            return Outcome.FAILED;
+        }
+        r.run();
+        return Outcome.ABSORBED;
+    }
+
+    private synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(maxTokens, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.RejectPolicy;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 拒绝策略工厂，按配置中心下发的 handler 字段（"desc" 或 "desc:参数"）创建策略
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+public final class RejectPolicyFactory {
+
+    private RejectPolicyFactory() {
+    }
+
+    /**
+     * 创建拒绝策略，无法识别或参数非法时返回 null
+     */
+    public static RejectedExecutionHandler create(String spec) {
+        Spec parsed = Spec.parse(spec);
+        if (parsed == null) {
+            return null;
+        }
+        long param = parsed.param;
+        return switch (parsed.policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+            case RATE_LIMITED_CALLER_RUNS -> new RateLimitedCallerRunsPolicy(param);
+            case TIMED_BLOCKING -> new TimedBlockingPolicy(param);
+            case AGED_DISCARD_OLDEST -> new AgedDiscardOldestPolicy(param);
+            case OVERFLOW_SPILL -> new OverflowSpillPolicy(param);
+        };
+    }
+
+    /**
+     * 规范化 handler 字段：补全默认参数，结果与按其创建的策略的 {@link #describe} 一致；无法识别或参数非法时返回 null
+     */
+    public static String normalize(String spec) {
+        Spec parsed = Spec.parse(spec);
+        if (parsed == null) {
+            return null;
+        }
+        return parsed.policy.defaultParam > 0 ? parsed.policy.desc + ":" + parsed.param : parsed.policy.desc;
+    }
+
+    /**
+     * 拒绝策略的描述，带参数的策略为 "desc:参数"，其余为类名
+     */
+    public static String describe(RejectedExecutionHandler handler) {
+        return handler instanceof AbstractRejectPolicy policy ? policy.describe() : handler.getClass().getSimpleName();
+    }
+
+    /**
+     * 拒绝策略名称，不含参数，用于按策略归集计数
+     */
+    public static String nameOf(RejectedExecutionHandler handler) {
+        return handler instanceof AbstractRejectPolicy policy ? policy.getPolicy().desc : handler.getClass().getSimpleName();
+    }
+
+    private static final class Spec {
+        final RejectPolicy policy;
+        final long param;
+
+        Spec(RejectPolicy policy, long param) {
+            this.policy = policy;
+            this.param = param;
+        }
+
+        static Spec parse(String spec) {
+            if (StringUtils.isBlank(spec)) {
+                return null;
+            }
+            int idx = spec.indexOf(':');
+            RejectPolicy policy = RejectPolicy.of((idx < 0 ? spec : spec.substring(0, idx)).trim());
+            if (policy == null) {
+                return null;
+            }
+            if (idx < 0) {
+                return new Spec(policy, policy.defaultParam);
+            }
+            // 不带参数的策略不接受参数
+            if (policy.defaultParam <= 0) {
+                return null;
+            }
+            try {
+                long param = Long.parseLong(spec.substring(idx + 1).trim());
+                return param > 0 ? new Spec(policy, param) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
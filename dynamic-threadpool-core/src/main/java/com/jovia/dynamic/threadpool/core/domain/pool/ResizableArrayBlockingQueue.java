@@ -0,0 +1,101 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+/**
+ * 可调节大小的数组环形队列
+ * 元素直接存放在数组中，入队不分配节点，适合 CPU 密集、对 GC 敏感的线程池。
+ * 调整容量时按顺序搬迁到新数组；缩容后若元素数仍大于新容量，数组暂时保持原长度。
+ *
+ * @author Jay
+ * @date 2025-11-19-21:48
+ */
+public class ResizableArrayBlockingQueue<E> extends AbstractResizableLockQueue<E> {
+
+    private Object[] items;
+    private int takeIndex;
+    private int putIndex;
+
+    public ResizableArrayBlockingQueue(int capacity) {
+        super(capacity);
+        this.items = new Object[capacity];
+    }
+
+    @Override
+    protected void doEnqueue(E e) {
+        items[putIndex] = e;
+        if (++putIndex == items.length) {
+            putIndex = 0;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doDequeue() {
+        E x = (E) items[takeIndex];
+        items[takeIndex] = null;
+        if (++takeIndex == items.length) {
+            takeIndex = 0;
+        }
+        return x;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doPeek() {
+        return (E) items[takeIndex];
+    }
+
+    @Override
+    protected boolean doRemove(Object o) {
+        int count = count();
+        for (int k = 0; k < count; k++) {
+            if (o.equals(items[index(k)])) {
+                // 后续元素依次前移一位
+                for (int j = k; j < count - 1; j++) {
+                    items[index(j)] = items[index(j + 1)];
+                }
+                putIndex = index(count - 1);
+                items[putIndex] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Object[] doToArray() {
+        int count = count();
+        Object[] a = new Object[count];
+        for (int k = 0; k < count; k++) {
+            a[k] = items[index(k)];
+        }
+        return a;
+    }
+
+    @Override
+    protected void doClear() {
+        int count = count();
+        for (int k = 0; k < count; k++) {
+            items[index(k)] = null;
+        }
+        takeIndex = putIndex = 0;
+    }
+
+    @Override
+    protected void onCapacityChanged(int newCapacity) {
+        int length = Math.max(newCapacity, count());
+        if (length == items.length) {
+            return;
+        }
+        Object[] a = doToArray();
+        items = new Object[length];
+        System.arraycopy(a, 0, items, 0, a.length);
+        takeIndex = 0;
+        putIndex = a.length == length ? 0 : a.length;
+    }
+
+    // 第 k 个元素在数组中的下标
+    private int index(int k) {
+        int i = takeIndex + k;
+        return i >= items.length ? i - items.length : i;
+    }
+}
@@ -1,55 +1,542 @@
 package com.jovia.dynamic.threadpool.core.domain.pool;
 
-import lombok.Getter;
-import lombok.NonNull;
-
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * 尅可调节大小的队列
+ * 可调节大小的队列
+ * 沿用 LinkedBlockingQueue 的双锁链表结构，容量改为可变：
+ * 容量检查与入队都在 putLock 内完成，并发生产者不会超出容量；
+ * 扩容时唤醒阻塞的生产者，缩容只限制后续入队，已在队列中的任务不会被丢弃。
  *
  * @author Jay
  * @date 2025-10-28-22:39
  */
-@Getter
-public class ResizableBlockingQueue<E> extends LinkedBlockingQueue<E> {
+public class ResizableBlockingQueue<E> extends AbstractQueue<E> implements ResizableQueue<E> {
+
+    static class Node<E> {
+        E item;
+
+        /**
+         * 后继节点；出队后指向自身，供迭代器识别
+         */
+        Node<E> next;
+
+        Node(E x) {
+            item = x;
+        }
+    }
 
     private volatile int capacity;
-    
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    // 头节点为哨兵，head.item 恒为 null
+    private Node<E> head;
+    private Node<E> last;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+
     public ResizableBlockingQueue(int capacity) {
-        super(capacity);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must > 0");
+        }
         this.capacity = capacity;
+        last = head = new Node<>(null);
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
     }
 
     /**
      * 容量更新
      */
-    public synchronized void setCapacity(int newCapacity) {
+    @Override
+    public void setCapacity(int newCapacity) {
         if (newCapacity <= 0) {
             throw new IllegalArgumentException("capacity must > 0");
         }
-        this.capacity = newCapacity;
+        final ReentrantLock putLock = this.putLock;
+        putLock.lock();
+        try {
+            int oldCapacity = this.capacity;
+            this.capacity = newCapacity;
+            if (newCapacity > oldCapacity && count.get() < newCapacity) {
+                notFull.signalAll();
+            }
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    private void signalNotEmpty() {
+        final ReentrantLock takeLock = this.takeLock;
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        final ReentrantLock putLock = this.putLock;
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    private void enqueue(Node<E> node) {
+        last = last.next = node;
+    }
+
+    private E dequeue() {
+        Node<E> h = head;
+        Node<E> first = h.next;
+        h.next = h;
+        head = first;
+        E x = first.item;
+        first.item = null;
+        return x;
+    }
+
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
     }
 
     @Override
-    public synchronized int remainingCapacity() {
-        return Math.max(0, capacity - size());
+    public int size() {
+        return count.get();
     }
-    
+
     @Override
-    public boolean offer(@NonNull E e) {
-        if (size() >= capacity) {
-            return false;
+    public int remainingCapacity() {
+        return Math.max(0, capacity - count.get());
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        Objects.requireNonNull(e);
+        final int c;
+        final Node<E> node = new Node<>(e);
+        final ReentrantLock putLock = this.putLock;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() >= capacity) {
+                notFull.await();
+            }
+            enqueue(node);
+            c = count.getAndIncrement();
+            if (c + 1 < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0) {
+            signalNotEmpty();
         }
-        return super.offer(e);
     }
 
     @Override
     public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
-        if (size() >= capacity) {
+        Objects.requireNonNull(e);
+        long nanos = unit.toNanos(timeout);
+        final int c;
+        final ReentrantLock putLock = this.putLock;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(new Node<>(e));
+            c = count.getAndIncrement();
+            if (c + 1 < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        if (count.get() >= capacity) {
+            return false;
+        }
+        final int c;
+        final Node<E> node = new Node<>(e);
+        final ReentrantLock putLock = this.putLock;
+        putLock.lock();
+        try {
+            // 持锁后再次检查，保证容量判断与入队的原子性
+            if (count.get() >= capacity) {
+                return false;
+            }
+            enqueue(node);
+            c = count.getAndIncrement();
+            if (c + 1 < capacity) {
+                notFull.signal();
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        final E x;
+        final int c;
+        final ReentrantLock takeLock = this.takeLock;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            x = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        // 缩容后 count 可能大于容量，只要出队前已满就唤醒生产者重新检查
+        if (c >= capacity) {
+            signalNotFull();
+        }
+        return x;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        final E x;
+        final int c;
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock takeLock = this.takeLock;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            x = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (c >= capacity) {
+            signalNotFull();
+        }
+        return x;
+    }
+
+    @Override
+    public E poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+        final E x;
+        final int c;
+        final ReentrantLock takeLock = this.takeLock;
+        takeLock.lock();
+        try {
+            if (count.get() == 0) {
+                return null;
+            }
+            x = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (c >= capacity) {
+            signalNotFull();
+        }
+        return x;
+    }
+
+    @Override
+    public E peek() {
+        if (count.get() == 0) {
+            return null;
+        }
+        final ReentrantLock takeLock = this.takeLock;
+        takeLock.lock();
+        try {
+            return (count.get() > 0) ? head.next.item : null;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    // 调用方需持有 fullyLock
+    private void unlink(Node<E> p, Node<E> pred) {
+        p.item = null;
+        pred.next = p.next;
+        if (last == p) {
+            last = pred;
+        }
+        if (count.getAndDecrement() >= capacity) {
+            notFull.signal();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        fullyLock();
+        try {
+            for (Node<E> pred = head, p = pred.next; p != null; pred = p, p = p.next) {
+                if (o.equals(p.item)) {
+                    unlink(p, pred);
+                    return true;
+                }
+            }
             return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+        fullyLock();
+        try {
+            for (Node<E> p = head.next; p != null; p = p.next) {
+                if (o.equals(p.item)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        fullyLock();
+        try {
+            Object[] a = new Object[count.get()];
+            int k = 0;
+            for (Node<E> p = head.next; p != null; p = p.next) {
+                a[k++] = p.item;
+            }
+            return a;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        fullyLock();
+        try {
+            int size = count.get();
+            if (a.length < size) {
+                a = (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+            }
+            int k = 0;
+            for (Node<E> p = head.next; p != null; p = p.next) {
+                a[k++] = (T) p.item;
+            }
+            if (a.length > k) {
+                a[k] = null;
+            }
+            return a;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        fullyLock();
+        try {
+            for (Node<E> p, h = head; (p = h.next) != null; h = p) {
+                h.next = h;
+                p.item = null;
+            }
+            head = last;
+            if (count.getAndSet(0) >= capacity) {
+                notFull.signalAll();
+            }
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        if (maxElements <= 0) {
+            return 0;
+        }
+        boolean signalNotFull = false;
+        final ReentrantLock takeLock = this.takeLock;
+        takeLock.lock();
+        try {
+            int n = Math.min(maxElements, count.get());
+            Node<E> h = head;
+            int i = 0;
+            try {
+                while (i < n) {
+                    Node<E> p = h.next;
+                    c.add(p.item);
+                    p.item = null;
+                    h.next = h;
+                    h = p;
+                    ++i;
+                }
+                return n;
+            } finally {
+                if (i > 0) {
+                    head = h;
+                    signalNotFull = (count.getAndAdd(-i) >= capacity);
+                }
+            }
+        } finally {
+            takeLock.unlock();
+            if (signalNotFull) {
+                signalNotFull();
+            }
+        }
+    }
+
+    // 已出队的节点 next 指向自身，此时从当前头节点继续
+    private Node<E> succ(Node<E> p) {
+        if (p == (p = p.next)) {
+            p = head.next;
+        }
+        return p;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * 弱一致迭代器，不抛出 ConcurrentModificationException
+     */
+    private class Itr implements Iterator<E> {
+        private Node<E> next;
+        private E nextItem;
+        private Node<E> lastRet;
+
+        Itr() {
+            fullyLock();
+            try {
+                if ((next = head.next) != null) {
+                    nextItem = next.item;
+                }
+            } finally {
+                fullyUnlock();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            Node<E> p;
+            if ((p = next) == null) {
+                throw new NoSuchElementException();
+            }
+            lastRet = p;
+            E x = nextItem;
+            fullyLock();
+            try {
+                E e = null;
+                for (p = p.next; p != null && (e = p.item) == null; ) {
+                    p = succ(p);
+                }
+                next = p;
+                nextItem = e;
+            } finally {
+                fullyUnlock();
+            }
+            return x;
+        }
+
+        @Override
+        public void remove() {
+            Node<E> p = lastRet;
+            if (p == null) {
+                throw new IllegalStateException();
+            }
+            lastRet = null;
+            fullyLock();
+            try {
+                if (p.item != null) {
+                    for (Node<E> pred = head, q = pred.next; q != null; pred = q, q = q.next) {
+                        if (q == p) {
+                            unlink(q, pred);
+                            break;
+                        }
+                    }
+                }
+            } finally {
+                fullyUnlock();
+            }
         }
-        return super.offer(e, timeout, unit);
     }
 }
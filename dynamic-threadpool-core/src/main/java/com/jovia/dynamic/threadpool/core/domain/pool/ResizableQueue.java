@@ -0,0 +1,17 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 支持运行时调整容量的阻塞队列
+ * 缩容只限制后续入队，已在队列中的元素不会被丢弃
+ *
+ * @author Jay
+ * @date 2025-11-19-21:14
+ */
+public interface ResizableQueue<E> extends BlockingQueue<E> {
+
+    int getCapacity();
+
+    void setCapacity(int capacity);
+}
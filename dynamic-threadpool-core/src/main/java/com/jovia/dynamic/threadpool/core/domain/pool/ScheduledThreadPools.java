@@ -0,0 +1,44 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+import com.jovia.dynamic.threadpool.core.model.vo.ExecutorType;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * 定时线程池的参数与指标读取
+ * ScheduledThreadPoolExecutor 不做替换，线程数固定为核心线程数（最大线程数对其无效），只托管核心线程数与基础指标
+ *
+ * @author Jay
+ * @date 2025-11-23-20:30
+ */
+public final class ScheduledThreadPools {
+
+    private ScheduledThreadPools() {
+    }
+
+    public static ThreadPoolMetrics metricsOf(ScheduledThreadPoolExecutor executor) {
+        int coreSize = executor.getCorePoolSize();
+        return ThreadPoolMetrics.builder()
+                .corePoolSize(coreSize)
+                .maximumPoolSize(coreSize)
+                .activeCount(executor.getActiveCount())
+                .poolSize(executor.getPoolSize())
+                .queueSize(executor.getQueue().size())
+                .remainingCapacity(Integer.MAX_VALUE)
+                .largestPoolSize(executor.getLargestPoolSize())
+                .completedTaskCount(executor.getCompletedTaskCount())
+                .instanceCount(1)
+                .build();
+    }
+
+    public static ThreadPoolConfig configOf(ScheduledThreadPoolExecutor executor) {
+        int coreSize = executor.getCorePoolSize();
+        return ThreadPoolConfig.builder()
+                .executorType(ExecutorType.SCHEDULED.desc)
+                .corePoolSize(coreSize)
+                .maximumPoolSize(coreSize)
+                .build();
+    }
+}
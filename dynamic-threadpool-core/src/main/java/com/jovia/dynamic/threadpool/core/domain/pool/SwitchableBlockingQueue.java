@@ -0,0 +1,221 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 可切换底层实现的工作队列
+ * ThreadPoolExecutor 的 workQueue 不可替换，执行器始终持有本队列，由它委托给实际的队列引擎，
+ * 切换时将已排队的任务迁移到新队列，并唤醒阻塞在旧队列上的工作线程。
+ *
+ * @author Jay
+ * @date 2025-11-19-22:46
+ */
+public class SwitchableBlockingQueue<E> extends AbstractQueue<E> implements ResizableQueue<E> {
+
+    // 切换后投递到旧队列，唤醒阻塞在旧队列上的消费者
+    private static final Runnable WAKE_UP = () -> {
+    };
+
+    // 阻塞等待的最长分片，兜底极端竞态下未被唤醒的消费者
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private volatile BlockingQueue<E> delegate;
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public SwitchableBlockingQueue(BlockingQueue<E> delegate) {
+        this.delegate = delegate;
+    }
+
+    public BlockingQueue<E> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 切换到新队列并迁移已排队的任务
+     *
+     * @return 新队列放不下的任务，由调用方处理
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<E> switchTo(BlockingQueue<E> target) {
+        BlockingQueue<E> old = delegate;
+        delegate = target;
+
+        List<E> drained = new ArrayList<>();
+        old.drainTo(drained);
+        List<E> overflow = new ArrayList<>();
+        for (E e : drained) {
+            if (e != WAKE_UP && !target.offer(e)) {
+                overflow.add(e);
+            }
+        }
+
+        for (int i = waiters.get(); i > 0; i--) {
+            old.offer((E) WAKE_UP);
+        }
+        return overflow;
+    }
+
+    @Override
+    public int getCapacity() {
+        BlockingQueue<E> q = delegate;
+        if (q instanceof ResizableQueue<E> resizable) {
+            return resizable.getCapacity();
+        }
+        return q.size() + q.remainingCapacity();
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        if (delegate instanceof ResizableQueue<E> resizable) {
+            resizable.setCapacity(capacity);
+        } else {
+            throw new UnsupportedOperationException("队列不支持原地调整容量: " + delegate.getClass().getSimpleName());
+        }
+    }
+
+    public boolean isResizable() {
+        return delegate instanceof ResizableQueue;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        BlockingQueue<E> q = delegate;
+        if (!q.offer(e)) {
+            return false;
+        }
+        // 入队期间发生了切换且任务未被迁移或消费，转投新队列
+        if (q != delegate && q.remove(e)) {
+            return delegate.offer(e);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        BlockingQueue<E> q = delegate;
+        if (!q.offer(e, timeout, unit)) {
+            return false;
+        }
+        if (q != delegate && q.remove(e)) {
+            return delegate.offer(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        while (!offer(e, MAX_WAIT_NANOS, TimeUnit.NANOSECONDS)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        E e = delegate.poll();
+        return e == WAKE_UP ? null : e;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        for (;;) {
+            E e = poll(MAX_WAIT_NANOS, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (;;) {
+            BlockingQueue<E> q = delegate;
+            E e = q.poll();
+            if (e != null && e != WAKE_UP) {
+                return e;
+            }
+            long nanos = deadline - System.nanoTime();
+            if (nanos <= 0L) {
+                return null;
+            }
+            // 先登记再确认队列未切换，与 switchTo 中先切换再读取等待数配合，不会错过唤醒
+            waiters.incrementAndGet();
+            try {
+                if (q != delegate) {
+                    continue;
+                }
+                e = q.poll(Math.min(nanos, MAX_WAIT_NANOS), TimeUnit.NANOSECONDS);
+            } finally {
+                waiters.decrementAndGet();
+            }
+            if (e != null && e != WAKE_UP) {
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        E e = delegate.peek();
+        return e == WAKE_UP ? null : e;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return delegate.remainingCapacity();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return delegate.remove(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate.contains(o);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return delegate.toArray(a);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return delegate.drainTo(c);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        return delegate.drainTo(c, maxElements);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate.iterator();
+    }
+}
@@ -0,0 +1,24 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 任务在队列中等待超过截止时间，未被执行
+ * 作为 {@link DeadlineFutureTask} 的失败原因，调用方通过 {@link java.util.concurrent.ExecutionException#getCause()} 获取
+ *
+ * @author Jay
+ * @date 2025-11-23-15:10
+ */
+public class TaskExpiredException extends RejectedExecutionException {
+
+    private final long queueWaitMs;
+
+    public TaskExpiredException(long queueWaitMs) {
+        super("任务排队 " + queueWaitMs + "ms 已超过截止时间，未执行");
+        this.queueWaitMs = queueWaitMs;
+    }
+
+    public long getQueueWaitMs() {
+        return queueWaitMs;
+    }
+}
@@ -0,0 +1,97 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 自适应调整控制循环
+ * 所有线程池共用一个调度线程：每秒采样一次指标，并按各自的 adjustIntervalMs 周期评估，工作线程不承担任何调整开销
+ *
+ * @author Jay
+ * @date 2025-11-16-14:32
+ */
+@Slf4j
+public class ThreadPoolControlLoop {
+
+    /**
+     * 指标采样间隔
+     */
+    public static final long SAMPLE_INTERVAL_MS = 1000L;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "adaptive-thread-pool-control-loop");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, AdaptiveThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+    public ThreadPoolControlLoop() {
+        scheduler.scheduleAtFixedRate(this::sampleAll, SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 注册线程池，重复注册同名线程池时替换旧实例
+     */
+    public void register(String threadPoolName, AdaptiveThreadPoolExecutor executor) {
+        if (executors.put(threadPoolName, executor) == null) {
+            schedule(threadPoolName, executor);
+        }
+        log.info("[动态线程池] 控制循环注册线程池: {}", threadPoolName);
+    }
+
+    public void unregister(String threadPoolName) {
+        executors.remove(threadPoolName);
+    }
+
+    public void shutdown() {
+        executors.clear();
+        scheduler.shutdownNow();
+    }
+
+    // 每次执行完按最新的 adjustIntervalMs 重新调度，间隔变更无需重新注册
+    private void schedule(String threadPoolName, AdaptiveThreadPoolExecutor executor) {
+        long intervalMs = Math.max(1L, executor.getAutoAdjustConfig().getAdjustIntervalMs());
+        try {
+            scheduler.schedule(() -> tick(threadPoolName), intervalMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // 控制循环已关闭
+        }
+    }
+
+    private void sampleAll() {
+        executors.forEach((threadPoolName, executor) -> {
+            try {
+                executor.sampleMetrics();
+            } catch (Throwable e) {
+                log.error("[动态线程池] 线程池 {} 指标采样异常", threadPoolName, e);
+            }
+        });
+    }
+
+    private void tick(String threadPoolName) {
+        AdaptiveThreadPoolExecutor executor = executors.get(threadPoolName);
+        if (executor == null) {
+            return;
+        }
+        if (executor.isShutdown()) {
+            executors.remove(threadPoolName, executor);
+            return;
+        }
+        try {
+            if (executor.getAdjustMode().isAutomatic()) {
+                executor.adjustmentIfNeeded();
+            }
+        } catch (Throwable e) {
+            log.error("[动态线程池] 线程池 {} 自动调整异常", threadPoolName, e);
+        } finally {
+            schedule(threadPoolName, executor);
+        }
+    }
+}
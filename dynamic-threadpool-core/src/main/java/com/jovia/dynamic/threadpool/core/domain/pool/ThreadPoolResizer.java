@@ -0,0 +1,195 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.entity.ResizeEvent;
+import com.jovia.dynamic.threadpool.core.model.vo.AutoAdjustConfig;
+import com.jovia.dynamic.threadpool.core.model.vo.QueueType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 线程池参数变更引擎
+ * 统一处理 core / max / 队列容量的变更顺序：最大线程数变大时先调最大再调核心，否则先调核心，任意时刻都满足 core <= max；
+ * 队列先扩后缩，扩容时先增加缓冲，缩容放在线程调整之后。
+ * 核心线程数增加时立即预启动核心线程，避免任务到达后才逐个创建线程造成的延迟尖刺。
+ * 配置下发的大幅缩容按步长分步执行，每步只降低参数，多出的线程在存活时间到期后自然退出，执行中的任务不受影响。
+ * 所有方法都在执行器 adjustLock 保护下调用。
+ *
+ * @author Jay
+ * @date 2025-11-23-17:20
+ */
+@Slf4j
+class ThreadPoolResizer {
+
+    private static final int MAX_EVENTS = 64;
+
+    private final AdaptiveThreadPoolExecutor executor;
+    private final ArrayDeque<ResizeEvent> events = new ArrayDeque<>(MAX_EVENTS);
+    private final List<Consumer<ResizeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // 进行中的分步缩容，null 表示没有
+    private Target pending;
+    private long lastStepTime = 0L;
+
+    ThreadPoolResizer(AdaptiveThreadPoolExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 变更参数
+     *
+     * @param queueCapacity <= 0 表示不调整队列
+     * @param gradual       缩容幅度超过步长时是否分步执行
+     */
+    void resize(int corePoolSize, int maximumPoolSize, int queueCapacity, ResizeEvent.Source source,
+                boolean gradual, String reason) {
+        if (corePoolSize < 0 || maximumPoolSize <= 0 || corePoolSize > maximumPoolSize) {
+            throw new IllegalArgumentException("非法的线程数: core=" + corePoolSize + ", max=" + maximumPoolSize);
+        }
+        // 新的变更覆盖进行中的分步缩容
+        pending = null;
+        int step = executor.getAutoAdjustConfig().getShrinkRampStep();
+        if (gradual && step > 0 && (executor.getCorePoolSize() - corePoolSize > step
+                || executor.getMaximumPoolSize() - maximumPoolSize > step)) {
+            pending = new Target(corePoolSize, maximumPoolSize, source, reason);
+            step(System.currentTimeMillis(), step, queueCapacity);
+            return;
+        }
+        apply(corePoolSize, maximumPoolSize, queueCapacity, source, null, corePoolSize, maximumPoolSize, reason);
+    }
+
+    boolean isShrinking() {
+        return pending != null;
+    }
+
+    /**
+     * 推进分步缩容，由采样周期调用
+     */
+    void advance(long now) {
+        if (pending == null) {
+            return;
+        }
+        AutoAdjustConfig config = executor.getAutoAdjustConfig();
+        if (now - lastStepTime < config.getShrinkRampIntervalMs()) {
+            return;
+        }
+        step(now, Math.max(1, config.getShrinkRampStep()), 0);
+    }
+
+    // 队列容量只在第一步调整，缩小队列不会丢弃已排队的任务
+    private void step(long now, int step, int queueCapacity) {
+        Target target = pending;
+        int newCore = Math.max(target.corePoolSize, executor.getCorePoolSize() - step);
+        // 最大线程数只需逐步压住实际存活的线程，高于当前线程数的部分直接收回
+        int newMax = Math.min(executor.getMaximumPoolSize() - step, executor.getPoolSize());
+        newMax = Math.max(Math.max(target.maximumPoolSize, newMax), newCore);
+        boolean last = newCore == target.corePoolSize && newMax == target.maximumPoolSize;
+        lastStepTime = now;
+        if (last) {
+            pending = null;
+        }
+        apply(newCore, newMax, queueCapacity, target.source, ResizeEvent.Type.SHRINK_STEP,
+                target.corePoolSize, target.maximumPoolSize, target.reason);
+    }
+
+    private void apply(int core, int max, int queueCapacity, ResizeEvent.Source source, ResizeEvent.Type type,
+                       int targetCore, int targetMax, String reason) {
+        int oldCore = executor.getCorePoolSize();
+        int oldMax = executor.getMaximumPoolSize();
+        int oldQueue = executor.getQueueCapacity();
+        boolean resizeQueue = queueCapacity > 0 && queueCapacity != oldQueue
+                && executor.getQueueType() != QueueType.SYNCHRONOUS;
+
+        if (resizeQueue && queueCapacity > oldQueue) {
+            executor.setQueueCapacity(queueCapacity);
+        }
+        if (max >= oldMax) {
+            executor.setMaximumPoolSize(max);
+            executor.setCorePoolSize(core);
+        } else {
+            executor.setCorePoolSize(core);
+            executor.setMaximumPoolSize(max);
+        }
+        if (resizeQueue && queueCapacity < oldQueue) {
+            executor.setQueueCapacity(queueCapacity);
+        }
+        int prestarted = core > oldCore ? executor.prestartAllCoreThreads() : 0;
+
+        int newQueue = executor.getQueueCapacity();
+        if (core == oldCore && max == oldMax && newQueue == oldQueue) {
+            return;
+        }
+        if (type == null) {
+            type = core > oldCore || max > oldMax ? ResizeEvent.Type.EXPAND
+                    : core < oldCore || max < oldMax ? ResizeEvent.Type.SHRINK : ResizeEvent.Type.QUEUE;
+        }
+        ResizeEvent event = ResizeEvent.builder()
+                .type(type)
+                .source(source)
+                .timestamp(System.currentTimeMillis())
+                .oldCorePoolSize(oldCore)
+                .newCorePoolSize(core)
+                .oldMaximumPoolSize(oldMax)
+                .newMaximumPoolSize(max)
+                .oldQueueCapacity(oldQueue)
+                .newQueueCapacity(newQueue)
+                .targetCorePoolSize(targetCore)
+                .targetMaximumPoolSize(targetMax)
+                .prestartedThreads(prestarted)
+                .reason(reason)
+                .build();
+        publish(event);
+    }
+
+    private void publish(ResizeEvent event) {
+        synchronized (events) {
+            if (events.size() == MAX_EVENTS) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+        }
+        log.info("[动态线程池] 参数调整 {}({}): core {} -> {}, max {} -> {}, queue {} -> {}, 目标 core={} max={}, 预热线程 {}, 原因: {}",
+                event.getType(), event.getSource(), event.getOldCorePoolSize(), event.getNewCorePoolSize(),
+                event.getOldMaximumPoolSize(), event.getNewMaximumPoolSize(), event.getOldQueueCapacity(),
+                event.getNewQueueCapacity(), event.getTargetCorePoolSize(), event.getTargetMaximumPoolSize(),
+                event.getPrestartedThreads(), event.getReason());
+        for (Consumer<ResizeEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("[动态线程池] 参数调整事件监听器异常", e);
+            }
+        }
+    }
+
+    void addListener(Consumer<ResizeEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 最近的变更事件，按时间升序
+     */
+    List<ResizeEvent> recentEvents() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+
+    private static final class Target {
+        final int corePoolSize;
+        final int maximumPoolSize;
+        final ResizeEvent.Source source;
+        final String reason;
+
+        Target(int corePoolSize, int maximumPoolSize, ResizeEvent.Source source, String reason) {
+            this.corePoolSize = corePoolSize;
+            this.maximumPoolSize = maximumPoolSize;
+            this.source = source;
+            this.reason = reason;
+        }
+    }
+}
@@ -1,26 +1,92 @@
 package com.jovia.dynamic.threadpool.core.domain.pool;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
+ * 将容器中已有的线程池替换为自适应线程池
+ * 只接管类型恰好为 ThreadPoolExecutor / ThreadPoolTaskExecutor 的 Bean，自定义子类可能重写了钩子方法，保持原样。
+ * ScheduledThreadPoolExecutor 依赖内部的延迟队列且对外暴露为 ScheduledExecutorService，不做替换，由动态线程池服务托管核心线程数与指标。
+ * 容器销毁时只会对原始 Bean 调用销毁方法，这里记录原始 Bean 与替换结果，在销毁前关闭替换后的线程池。
+ *
  * @author Jay
  * @date 2025-11-15-11:20
  */
-public class ThreadPoolWrappingPostProcessor implements BeanPostProcessor {
+@Slf4j
+public class ThreadPoolWrappingPostProcessor implements DestructionAwareBeanPostProcessor {
+
+    // 原始 Bean -> 替换后的 Bean
+    private final Map<Object, Object> replacements = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        // 在 afterPropertiesSet 创建执行器之前替换，由子类直接创建自适应执行器
+        if (bean.getClass() == ThreadPoolTaskExecutor.class) {
+            log.info("[动态线程池] 接管 ThreadPoolTaskExecutor: {}", beanName);
+            AdaptiveThreadPoolTaskExecutor replacement = AdaptiveThreadPoolTaskExecutor.from((ThreadPoolTaskExecutor) bean);
+            replacements.put(bean, replacement);
+            return replacement;
+        }
+        return bean;
+    }
+
     @Override
     public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
-        return BeanPostProcessor.super.postProcessAfterInitialization(bean, beanName);
+        if (bean.getClass() == ThreadPoolExecutor.class) {
+            AdaptiveThreadPoolExecutor replacement = wrap((ThreadPoolExecutor) bean, beanName);
+            replacements.put(bean, replacement);
+            return replacement;
+        }
+        if (bean instanceof ScheduledThreadPoolExecutor) {
+            log.info("[动态线程池] 定时线程池不做替换，只托管核心线程数与指标: {}", beanName);
+        } else if (bean instanceof ThreadPoolExecutor && !(bean instanceof AdaptiveThreadPoolExecutor)) {
+            log.info("[动态线程池] 跳过自定义线程池子类: {} ({})", beanName, bean.getClass().getName());
+        }
+        return bean;
+    }
+
+    /**
+     * 按原线程池参数创建自适应线程池，原线程池停止接收任务，排队任务转交新线程池，正在执行的任务自然结束
+     */
+    private AdaptiveThreadPoolExecutor wrap(ThreadPoolExecutor source, String beanName) {
+        AdaptiveThreadPoolExecutor executor = new AdaptiveThreadPoolExecutor(source);
+        source.shutdown();
+        List<Runnable> queued = new ArrayList<>();
+        source.getQueue().drainTo(queued);
+        queued.forEach(executor::execute);
+        log.info("[动态线程池] 接管线程池: {}, core={}, max={}, queue={}({}), 迁移排队任务 {}",
+                beanName, executor.getCorePoolSize(), executor.getMaximumPoolSize(),
+                executor.getQueueType().desc, executor.getQueueCapacity(), queued.size());
+        return executor;
     }
 
     @Override
-    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
-        if(bean instanceof ThreadPoolExecutor executor && !(bean instanceof AdaptiveThreadPoolExecutor)){
-            return new AdaptiveThreadPoolExecutor(executor);
+    public boolean requiresDestruction(Object bean) {
+        return replacements.containsKey(bean);
+    }
+
+    @Override
+    public void postProcessBeforeDestruction(Object bean, String beanName) throws BeansException {
+        Object replacement = replacements.remove(bean);
+        try {
+            if (replacement instanceof DisposableBean disposable) {
+                disposable.destroy();
+            } else if (replacement instanceof ThreadPoolExecutor executor) {
+                executor.shutdown();
+            }
+        } catch (Exception e) {
+            log.warn("[动态线程池] 关闭线程池失败: {}", beanName, e);
         }
-        
-        return BeanPostProcessor.super.postProcessBeforeInitialization(bean, beanName);
     }
 }
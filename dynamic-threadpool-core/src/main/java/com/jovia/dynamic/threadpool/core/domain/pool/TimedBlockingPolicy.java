@@ -0,0 +1,41 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.RejectPolicy;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限时阻塞入队策略
+ * 队列已满时提交线程最多等待 timeoutMs 等待队列出现空位，短时突发由提交方稍作等待吸收，超时仍无空位才拒绝。
+ * 任务内部向同一线程池提交子任务时，等待期间占用的是工作线程，超时上限保证不会因此永久互相等待。
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+public class TimedBlockingPolicy extends AbstractRejectPolicy {
+
+    public TimedBlockingPolicy(long timeoutMs) {
+        super(RejectPolicy.TIMED_BLOCKING, timeoutMs);
+    }
+
+    @Override
+    Outcome handle(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            return Outcome.FAILED;
+        }
+        try {
+            if (!executor.getQueue().offer(r, getParam(), TimeUnit.MILLISECONDS)) {
+                return Outcome.FAILED;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.FAILED;
+        }
+        // 等待期间线程池已关闭，撤回任务；已被工作线程取走则照常执行
+        if (executor.isShutdown() && executor.remove(r)) {
+            return Outcome.FAILED;
+        }
+        return Outcome.ABSORBED;
+    }
+}
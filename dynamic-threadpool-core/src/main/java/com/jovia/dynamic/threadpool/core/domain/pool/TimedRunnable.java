@@ -0,0 +1,88 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import java.util.Comparator;
+import java.util.concurrent.Future;
+
+/**
+ * 保存提交时间的任务
+ *
+ * @author Jay
+ * @date 2025-10-27-16:44
+ */
+class TimedRunnable implements Runnable {
+
+    /**
+     * 优先级顺序：优先级高的在前，同优先级的同类 Comparable 任务按自身顺序（兼容接管的 PriorityBlockingQueue），
+     * 其余按提交时间先后；非 TimedRunnable 元素排在最前
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Comparator<Runnable> PRIORITY_ORDER = (a, b) -> {
+        if (!(a instanceof TimedRunnable ta)) {
+            return b instanceof TimedRunnable ? -1 : 0;
+        }
+        if (!(b instanceof TimedRunnable tb)) {
+            return 1;
+        }
+        int byPriority = Integer.compare(tb.priority, ta.priority);
+        if (byPriority != 0) {
+            return byPriority;
+        }
+        if (ta.task instanceof Comparable comparable && ta.task.getClass() == tb.task.getClass()) {
+            int byTask = comparable.compareTo(tb.task);
+            if (byTask != 0) {
+                return byTask;
+            }
+        }
+        return Long.compare(ta.submitTime, tb.submitTime);
+    };
+
+    final Runnable task;
+    // 实际执行的任务，经 TaskDecorator 装饰后可能与 task 不同；过期判断与取消仍作用于 task
+    final Runnable runner;
+    final long submitTime;
+    final int priority;
+    // 公平队列的分组 key，未指定时为 null
+    final String fairKey;
+    // 最晚开始执行的时间（System.nanoTime），NO_DEADLINE 表示不限
+    final long deadline;
+    // 仅由执行该任务的工作线程读写
+    long startTime;
+    boolean expired;
+
+    static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    TimedRunnable(Runnable task, Runnable runner, long submitTime, String fairKey, long deadline, int priority) {
+        this.task = task;
+        this.runner = runner;
+        this.submitTime = submitTime;
+        this.priority = priority;
+        this.fairKey = fairKey;
+        this.deadline = deadline;
+    }
+
+    static int priorityOf(Runnable task) {
+        return task instanceof PrioritizedTask prioritized ? prioritized.getPriority() : 0;
+    }
+
+    /**
+     * 出队时是否已超过截止时间，按差值比较，避免 nanoTime 溢出
+     */
+    boolean isExpiredAt(long now) {
+        return deadline != NO_DEADLINE && now - deadline > 0;
+    }
+
+    /**
+     * 已过期的任务不执行：带截止时间的 Future 以 {@link TaskExpiredException} 异常结束，
+     * 其他 Future 取消，普通任务直接丢弃
+     */
+    @Override
+    public void run() {
+        if (!expired) {
+            runner.run();
+        } else if (task instanceof DeadlineFutureTask<?> future) {
+            future.expire((startTime - submitTime) / 1_000_000L);
+        } else if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.domain.metrics.SlidingWindowCounter;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+import com.jovia.dynamic.threadpool.core.model.vo.ExecutorType;
+import com.jovia.dynamic.threadpool.core.utils.VirtualThreads;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 虚拟线程执行器，适用于阻塞在 HTTP / JDBC 等 IO 上的线程池
+ * 每个任务在新建的虚拟线程上执行，不复用线程；并发数由信号量限制，许可数即 maximumPoolSize，
+ * 随 {@link #setMaximumPoolSize} / 远程配置实时增减，缩小时已在执行的任务不受影响，完成后不再归还多出的许可。
+ * 许可用尽时提交线程阻塞等待，可设置最长等待时间，超时后拒绝并抛出 {@link RejectedExecutionException}，计入拒绝数。
+ * corePoolSize 只作为配置保留，不影响执行。不参与自动调整，参数与指标按 {@link ThreadPoolConfig} / {@link ThreadPoolMetrics} 的字段口径上报。
+ * Java 21 以下运行时退化为平台线程，{@link #isVirtual()} 返回 false。
+ *
+ * @author Jay
+ * @date 2025-11-20-20:32
+ */
+@Slf4j
+public class VirtualThreadPoolExecutor extends AbstractExecutorService {
+
+    private static final int RATE_BUCKETS = 10;
+    private static final long RATE_BUCKET_MS = 1000L;
+
+    private final ThreadFactory threadFactory;
+    private final boolean virtual;
+    private final ResizableSemaphore permits;
+    private volatile int corePoolSize;
+    private volatile int maximumPoolSize;
+    // 等待许可的最长时间，0 表示一直等待
+    private volatile long acquireTimeoutNanos;
+
+    // 已占用许可、尚未结束的任务线程，shutdownNow 时中断
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger largestPoolSize = new AtomicInteger();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final SlidingWindowCounter recentRejections = new SlidingWindowCounter(RATE_BUCKETS, RATE_BUCKET_MS);
+
+    private volatile boolean shutdown;
+    private final Object termination = new Object();
+
+    public VirtualThreadPoolExecutor(int corePoolSize, int maximumPoolSize, String threadNamePrefix) {
+        this(corePoolSize, maximumPoolSize, 0L, TimeUnit.MILLISECONDS, threadNamePrefix);
+    }
+
+    /**
+     * @param acquireTimeout 许可用尽时提交线程的最长等待时间，0 表示一直等待
+     */
+    public VirtualThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long acquireTimeout, TimeUnit unit,
+                                     String threadNamePrefix) {
+        if (corePoolSize <= 0 || maximumPoolSize <= 0 || corePoolSize > maximumPoolSize) {
+            throw new IllegalArgumentException("corePoolSize=" + corePoolSize + ", maximumPoolSize=" + maximumPoolSize);
+        }
+        ThreadFactory virtualFactory = VirtualThreads.virtualFactory(threadNamePrefix);
+        if (virtualFactory == null) {
+            log.warn("[动态线程池] 当前 JVM({}) 不支持虚拟线程，{} 退化为平台线程", Runtime.version(), threadNamePrefix);
+        }
+        this.virtual = virtualFactory != null;
+        this.threadFactory = virtual ? virtualFactory : VirtualThreads.platformFactory(threadNamePrefix);
+        this.corePoolSize = corePoolSize;
+        this.maximumPoolSize = maximumPoolSize;
+        this.permits = new ResizableSemaphore(maximumPoolSize);
+        setAcquireTimeout(acquireTimeout, unit);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public synchronized void setCorePoolSize(int corePoolSize) {
+        if (corePoolSize <= 0 || corePoolSize > maximumPoolSize) {
+            throw new IllegalArgumentException("corePoolSize=" + corePoolSize + ", maximumPoolSize=" + maximumPoolSize);
+        }
+        this.corePoolSize = corePoolSize;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * 调整并发上限：调大时立即释放新增的许可，唤醒等待的提交线程；调小时扣减许可，
+     * 可用许可不足时记为负数，由执行中的任务结束时归还抵消
+     */
+    public synchronized void setMaximumPoolSize(int maximumPoolSize) {
+        if (maximumPoolSize <= 0 || maximumPoolSize < corePoolSize) {
+            throw new IllegalArgumentException("corePoolSize=" + corePoolSize + ", maximumPoolSize=" + maximumPoolSize);
+        }
+        int delta = maximumPoolSize - this.maximumPoolSize;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        log.info("[动态线程池] 虚拟线程并发上限 {} -> {}", this.maximumPoolSize, maximumPoolSize);
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public long getAcquireTimeout(TimeUnit unit) {
+        return unit.convert(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void setAcquireTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("acquireTimeout must >= 0");
+        }
+        this.acquireTimeoutNanos = unit.toNanos(timeout);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        if (shutdown || !acquire()) {
+            throw reject(task);
+        }
+        // 先计入执行中再复查关闭状态，保证关闭后 isTerminated 为 true 时不会再有任务启动
+        activeCount.incrementAndGet();
+        if (shutdown) {
+            finish();
+            throw reject(task);
+        }
+        try {
+            threadFactory.newThread(() -> runTask(task)).start();
+        } catch (RuntimeException | Error e) {
+            finish();
+            throw e;
+        }
+        largestPoolSize.accumulateAndGet(activeCount.get(), Math::max);
+    }
+
+    private boolean acquire() {
+        long timeout = acquireTimeoutNanos;
+        try {
+            if (timeout == 0L) {
+                permits.acquire();
+                return true;
+            }
+            return permits.tryAcquire(timeout, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runTask(Runnable task) {
+        Thread current = Thread.currentThread();
+        workers.add(current);
+        try {
+            task.run();
+        } finally {
+            workers.remove(current);
+            completedTaskCount.increment();
+            finish();
+        }
+    }
+
+    // 归还许可；关闭后最后一个任务结束时唤醒 awaitTermination
+    private void finish() {
+        permits.release();
+        if (activeCount.decrementAndGet() == 0 && shutdown) {
+            synchronized (termination) {
+                termination.notifyAll();
+            }
+        }
+    }
+
+    private RejectedExecutionException reject(Runnable task) {
+        rejectedCount.increment();
+        recentRejections.increment(System.currentTimeMillis());
+        return new RejectedExecutionException("Task " + task + " rejected from " + this
+                + (shutdown ? ": shutdown" : ": no permit within acquire timeout"));
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * 等待许可的提交线程数
+     */
+    public int getQueueSize() {
+        return permits.getQueueLength();
+    }
+
+    public int getLargestPoolSize() {
+        return largestPoolSize.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    public long getRejectedExecutionCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 最近 10 秒内平均每秒拒绝次数
+     */
+    public double getRecentRejectionRate() {
+        return recentRejections.ratePerSecond(System.currentTimeMillis());
+    }
+
+    /**
+     * 指标按线程池口径映射：poolSize 与 activeCount 均为执行中的任务数，queueSize 为等待许可的提交线程数
+     */
+    public ThreadPoolMetrics getThreadPoolMetrics() {
+        int active = getActiveCount();
+        return ThreadPoolMetrics.builder()
+                .corePoolSize(corePoolSize)
+                .maximumPoolSize(maximumPoolSize)
+                .activeCount(active)
+                .poolSize(active)
+                .queueSize(getQueueSize())
+                .remainingCapacity(Math.max(0, permits.availablePermits()))
+                .largestPoolSize(getLargestPoolSize())
+                .completedTaskCount(getCompletedTaskCount())
+                .rejectedCount(getRejectedExecutionCount())
+                .rejectRate(getRecentRejectionRate())
+                .instanceCount(1)
+                .build();
+    }
+
+    public ThreadPoolConfig getThreadPoolConfig() {
+        return ThreadPoolConfig.builder()
+                .executorType(ExecutorType.VIRTUAL.desc)
+                .corePoolSize(corePoolSize)
+                .maximumPoolSize(maximumPoolSize)
+                .build();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (activeCount.get() == 0) {
+            synchronized (termination) {
+                termination.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 不排队，没有未开始的任务可返回；中断执行中的任务
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        workers.forEach(Thread::interrupt);
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && activeCount.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (termination) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(termination, remaining);
+            }
+            return true;
+        }
+    }
+
+    // 公开 reducePermits，缩小上限时扣减许可
+    private static final class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.jovia.dynamic.threadpool.core.domain.pool;
+
+import com.jovia.dynamic.threadpool.core.model.vo.QueueType;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+
+/**
+ * 工作队列工厂
+ *
+ * @author Jay
+ * @date 2025-11-19-23:02
+ */
+public final class WorkQueueFactory {
+
+    private WorkQueueFactory() {
+    }
+
+    /**
+     * 按类型创建队列引擎，SYNCHRONOUS 忽略容量
+     */
+    public static BlockingQueue<Runnable> create(QueueType type, int capacity) {
+        return switch (type) {
+            case LINKED -> new ResizableBlockingQueue<>(capacity);
+            case ARRAY -> new ResizableArrayBlockingQueue<>(capacity);
+            case PRIORITY -> new BoundedPriorityBlockingQueue<>(capacity, TimedRunnable.PRIORITY_ORDER);
+            case MPMC -> new MpmcBlockingQueue<>(capacity);
+            case SYNCHRONOUS -> new SynchronousQueue<>();
+            case FAIR -> new FairBlockingQueue(capacity);
+            case LANE -> new PriorityLaneBlockingQueue(capacity);
+        };
+    }
+}
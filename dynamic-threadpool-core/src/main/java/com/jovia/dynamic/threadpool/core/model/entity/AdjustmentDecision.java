@@ -12,7 +12,7 @@ import lombok.Getter;
 @Data
 @Builder
 public class AdjustmentDecision {
-    public enum Type { NO_CHANGE, EXPAND_CORE, EXPAND_MAX, SHRINK_CORE }
+    public enum Type { NO_CHANGE, EXPAND_CORE, EXPAND_MAX, SHRINK_CORE, SHRINK_MAX }
 
     private final Type type;
     private final String reason;
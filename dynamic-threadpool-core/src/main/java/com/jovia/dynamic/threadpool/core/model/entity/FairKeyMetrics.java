@@ -0,0 +1,33 @@
+package com.jovia.dynamic.threadpool.core.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 公平队列中单个 key 的排队指标
+ *
+ * @author Jay
+ * @date 2025-11-23-14:20
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FairKeyMetrics {
+
+    private String key;
+    /** 调度权重 */
+    private int weight;
+    /** 当前排队任务数 */
+    private int queueSize;
+    /** 累计入队、出队、被拒绝的任务数 */
+    private long enqueuedCount;
+    private long dequeuedCount;
+    private long rejectedCount;
+    /** 累计平均队列等待时间 (ms) */
+    private double avgQueueWait;
+    /** 历史最大队列等待时间 (ms) */
+    private double maxQueueWait;
+}
@@ -0,0 +1,36 @@
+package com.jovia.dynamic.threadpool.core.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 时序指标在一段时间范围内的聚合结果
+ *
+ * @author Jay
+ * @date 2025-11-22-14:17
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricAggregate {
+
+    private String series;
+    /** 实际参与聚合的数据精度 */
+    private String resolution;
+    private long from;
+    private long to;
+    private double min;
+    private double max;
+    /** 按采样次数加权的平均值 */
+    private double avg;
+    /** 最近一个数据点的平均值 */
+    private double last;
+    /**
+     * 趋势：各数据点平均值对时间的最小二乘斜率（每分钟变化量），数据点不足两个时为 0
+     */
+    private double slopePerMinute;
+    private int samples;
+}
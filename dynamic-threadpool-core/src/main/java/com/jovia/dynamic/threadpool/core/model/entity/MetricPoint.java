@@ -0,0 +1,27 @@
+package com.jovia.dynamic.threadpool.core.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 时序指标的一个数据点，覆盖 [timestamp, timestamp + 精度) 内的全部采样
+ *
+ * @author Jay
+ * @date 2025-11-22-14:15
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricPoint {
+
+    /** 数据点起始时间（ms） */
+    private long timestamp;
+    private double min;
+    private double max;
+    private double avg;
+    /** 合并进该数据点的采样次数 */
+    private int samples;
+}
@@ -0,0 +1,36 @@
+package com.jovia.dynamic.threadpool.core.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 优先级通道队列中单个通道的排队指标
+ *
+ * @author Jay
+ * @date 2025-11-23-15:45
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriorityLaneMetrics {
+
+    /** 通道优先级，0 最低 */
+    private int priority;
+    /** 通道排队上限，0 表示只受总容量限制 */
+    private int capacity;
+    /** 当前排队任务数 */
+    private int queueSize;
+    /** 累计入队、出队、被拒绝的任务数 */
+    private long enqueuedCount;
+    private long dequeuedCount;
+    private long rejectedCount;
+    /** 因老化先于更高优先级通道出队的任务数 */
+    private long agedCount;
+    /** 累计平均队列等待时间 (ms) */
+    private double avgQueueWait;
+    /** 历史最大队列等待时间 (ms) */
+    private double maxQueueWait;
+}
@@ -0,0 +1,38 @@
+package com.jovia.dynamic.threadpool.core.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 单个拒绝策略的处理指标，策略切换后历史策略的计数保留
+ *
+ * @author Jay
+ * @date 2025-11-23-18:40
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejectPolicyMetrics {
+
+    /** 策略名称，不含参数 */
+    private String policy;
+    /** 是否为当前生效的策略 */
+    private boolean active;
+    /** 交由该策略处理的拒绝次数 */
+    private long rejectedCount;
+    /** 被吸收（由提交线程执行、等待后入队或进入溢出缓冲区）的任务数 */
+    private long absorbedCount;
+    /** 新任务入队但丢弃了已排队任务（或新任务本身被静默丢弃）的次数 */
+    private long discardedCount;
+    /** 提交方收到 RejectedExecutionException 的次数 */
+    private long failedCount;
+    /** 最近 10 秒内平均每秒交由该策略处理的拒绝次数 */
+    private double rejectRate;
+    /** 溢出缓冲区当前任务数、容量与累计回填数，仅 OverflowSpillPolicy 有值 */
+    private int overflowSize;
+    private int overflowCapacity;
+    private long drainedCount;
+}
@@ -0,0 +1,47 @@
+package com.jovia.dynamic.threadpool.core.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 线程池参数变更事件，每次实际生效的 core / max / 队列容量变化记录一条
+ *
+ * @author Jay
+ * @date 2025-11-23-17:10
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResizeEvent {
+
+    public enum Type {
+        EXPAND, // 扩容，核心线程已预热
+        SHRINK, // 一次缩容到位
+        SHRINK_STEP, // 分步缩容中的一步
+        QUEUE // 只调整队列容量
+    }
+
+    public enum Source {
+        CONFIG, // 配置中心下发
+        AUTO // 自动调整
+    }
+
+    private Type type;
+    private Source source;
+    private long timestamp;
+    private int oldCorePoolSize;
+    private int newCorePoolSize;
+    private int oldMaximumPoolSize;
+    private int newMaximumPoolSize;
+    private int oldQueueCapacity;
+    private int newQueueCapacity;
+    /** 分步缩容的最终目标，一次到位时与新值相同 */
+    private int targetCorePoolSize;
+    private int targetMaximumPoolSize;
+    /** 扩容时预启动的核心线程数 */
+    private int prestartedThreads;
+    private String reason;
+}
@@ -4,14 +4,30 @@ import lombok.Data;
 
 /**
  * 系统监控指标，用于线程池动态调整
+ * 运行在容器内时 CPU、内存按 cgroup 配额与限制计算，否则按主机计算
  * 
  * @author Jay
  * @date 2025-10-27-15:56
  */
 @Data
 public class SystemMetrics {
-    /** CPU 总体使用率（0~1） */
+    /** CPU 总体使用率（0~1），容器内为相对 CPU 配额的使用率 */
     private double cpuUsage;
-    /** 内存使用率（0~1） */
+    /** 内存使用率（0~1），容器内为工作集相对内存限制的比例 */
     private double memoryUsedPercent;
+
+    /** 可用 CPU 核数，容器内为配额折算值 */
+    private double cpuLimit;
+    /** 采样周期内被 CFS 限流的调度周期占比（0~1），无 cgroup 时为 0 */
+    private double cpuThrottledRatio;
+    /** 本 JVM 进程的 CPU 使用率（0~1），相对可用核数 */
+    private double processCpuUsage;
+    /** 采样周期内 GC 耗时占比（0~1） */
+    private double gcPauseRatio;
+    /** 采样周期内 GC 累计耗时（ms） */
+    private long gcPauseMillis;
+    /** 堆内存占用率（0~1），相对最大堆 */
+    private double heapUsedPercent;
+    /** 指标来源：cgroup-v1 / cgroup-v2 / host */
+    private String source;
 }
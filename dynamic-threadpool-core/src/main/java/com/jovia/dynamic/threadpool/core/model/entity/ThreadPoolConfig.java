@@ -21,6 +21,11 @@ public class ThreadPoolConfig {
         this.threadPoolName = threadPoolName;
     }
     
+    /**
+     * 应用名称
+     */
+    private String appName;
+
     /**
      * 线程池名称
      */
@@ -51,6 +56,11 @@ public class ThreadPoolConfig {
      */
     private String queueType;
 
+    /**
+     * 队列容量
+     */
+    private int queueCapacity;
+
     /**
      * 拒绝策略
      */
@@ -60,5 +70,37 @@ public class ThreadPoolConfig {
     private String adjustMode; // AUTO 0 / MANUAL 1 
 
     private long lastUpdateTime;
+
+    /**
+     * 公平队列（queueType = fair）中单个 key 的排队上限，0 表示只受总容量限制
+     */
+    private int fairKeyCapacity;
+
+    /**
+     * 公平队列各 key 的调度权重，格式 "tenantA=3,tenantB=1"，未配置的 key 权重为 1
+     */
+    private String fairKeyWeights;
+
+    /**
+     * 优先级通道（queueType = lane）各通道的排队上限，按优先级从低到高排列，格式 "5000,1000,100"，0 表示只受总容量限制
+     */
+    private String laneCapacities;
+
+    /**
+     * 优先级通道的老化周期（ms），通道每一个周期未得到服务提升一级，0 表示保持当前值
+     */
+    private long laneAgingMs;
+
+    /**
+     * 执行器类型，threadPool / forkJoin / scheduled / virtual；forkJoin 只按 corePoolSize 调整并行度，
+     * scheduled 只按 corePoolSize 调整核心线程数，virtual 只按 maximumPoolSize 调整并发上限，其余参数不生效
+     */
+    private String executorType;
+
+    /**
+     * 集群并发预算：同一应用所有实例上该线程池最大线程数之和的上限，用于保护共享下游（如数据库连接数），0 表示不限。
+     * 按存活实例数均分为各实例的份额，只约束自动调整
+     */
+    private int fleetMaxPoolSize;
     
 }
@@ -37,4 +37,46 @@ public class ThreadPoolMetrics {
     private double ewmaTaskTime;
     /** EWMA平滑后的平均任务等待时间 (ms) */
     private double ewmaQueueWait;
+    /**
+     * 最近一个统计窗口（5s）内的队列等待时间分位数 (ms)
+     */
+    private double queueWaitP50;
+    private double queueWaitP99;
+    private double queueWaitP999;
+    /**
+     * 最近一个统计窗口（5s）内的任务执行时间分位数 (ms)
+     */
+    private double taskTimeP50;
+    private double taskTimeP99;
+    private double taskTimeP999;
+    /**
+     * 排队超过截止时间未执行的任务数
+     */
+    private long expiredCount;
+    /**
+     * ForkJoin 执行器：累计工作窃取次数、外部提交尚未被领取的任务数、未阻塞在 join 或同步器上的工作线程数
+     */
+    private long stealCount;
+    private long queuedSubmissionCount;
+    private int runningThreadCount;
+    /**
+     * 最近 10 秒内平均每秒拒绝次数，包括被拒绝策略吸收的
+     */
+    private double rejectRate;
+    /**
+     * 溢出缓冲区中等待回填主队列的任务数
+     */
+    private int overflowSize;
+    /**
+     * 累计拒绝次数
+     */
+    private long rejectedCount;
+    /**
+     * EWMA 平滑后的每秒完成任务数
+     */
+    private double throughput;
+    /**
+     * 参与汇总的实例数，单个实例上报时为 1；集群汇总中数量类指标为各实例之和，延迟类指标取各实例最大值
+     */
+    private int instanceCount;
 }
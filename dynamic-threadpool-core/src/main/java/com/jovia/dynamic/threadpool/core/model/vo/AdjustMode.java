@@ -7,7 +7,11 @@ package com.jovia.dynamic.threadpool.core.model.vo;
 public enum AdjustMode {
 
     AUTO("auto",0),
-    MANUAL("manual",1);
+    MANUAL("manual",1),
+    // 并发上限算法：按任务耗时（RTT）与排队信号驱动最大线程数，核心线程数只随上限下调
+    AIMD("aimd",2),
+    VEGAS("vegas",3),
+    GRADIENT("gradient",4);
 
     public final String desc;
     public final int code;
@@ -16,4 +20,30 @@ public enum AdjustMode {
         this.desc = desc;
         this.code = code;
     }
+
+    /**
+     * 是否由控制循环自动调整
+     */
+    public boolean isAutomatic() {
+        return this != MANUAL;
+    }
+
+    /**
+     * 是否为并发上限算法模式
+     */
+    public boolean isConcurrencyLimit() {
+        return this == AIMD || this == VEGAS || this == GRADIENT;
+    }
+
+    /**
+     * 按描述或枚举名解析（忽略大小写），无法识别时返回 null
+     */
+    public static AdjustMode of(String value) {
+        for (AdjustMode mode : values()) {
+            if (mode.desc.equalsIgnoreCase(value) || mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        return null;
+    }
 }
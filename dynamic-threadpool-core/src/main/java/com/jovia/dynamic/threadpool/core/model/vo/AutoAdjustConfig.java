@@ -28,6 +28,22 @@ public class AutoAdjustConfig {
     @Builder.Default
     private double queueWaitWeight = 0.5;
 
+    // 按目标计算线程数（sizingStrategy = LITTLE 时生效）
+    @Builder.Default
+    private SizingStrategy sizingStrategy = SizingStrategy.STEP;
+    @Builder.Default
+    private double targetQueueWaitP99Ms = 100; // 目标队列等待时间 p99
+    @Builder.Default
+    private double targetUtilization = 0.8; // 目标线程利用率，预留余量吸收到达抖动
+
+    // 并发上限算法（adjustMode = AIMD / VEGAS / GRADIENT 时生效）
+    @Builder.Default
+    private int minConcurrencyLimit = 1; // 并发上限下限，上限取 maxMaximumPoolSize
+    @Builder.Default
+    private double aimdBackoffRatio = 0.9; // AIMD 拥塞时的乘性退避系数
+    @Builder.Default
+    private double rttTolerance = 2.0; // 判定拥塞的 RTT 相对基线倍数：AIMD 超过即退避，GRADIENT 以此为目标倍数，VEGAS 超过即收缩
+
     // 缩容阈值
     @Builder.Default
     private long idleShrinkThresholdMs = 30000; // 空闲缩容阈值(30秒)
@@ -37,6 +53,8 @@ public class AutoAdjustConfig {
     private double maxCpuUsage = 0.75; // 最大CPU使用率
     @Builder.Default
     private double maxMemoryUsage = 0.75; // 最大内存使用率
+    @Builder.Default
+    private double maxCpuThrottledRatio = 0.1; // 容器 CPU 限流周期占比上限
 
     // 调整步长
     @Builder.Default
@@ -45,6 +63,10 @@ public class AutoAdjustConfig {
     private int maxPoolStep = 2; // 最大线程数步长
     @Builder.Default
     private int queueStep = 10; // 队列容量步长
+    @Builder.Default
+    private int shrinkRampStep = 4; // 配置下发的缩容幅度超过该值时分步执行，每步 core / max 各减少该值
+    @Builder.Default
+    private long shrinkRampIntervalMs = 2000; // 分步缩容的每步间隔，多出的线程在存活时间到期后自然退出
 
     // 参数上限
     @Builder.Default
@@ -54,6 +76,13 @@ public class AutoAdjustConfig {
     @Builder.Default
     private int maxQueueCapacity = 1000; // 最大队列容量
 
+    // 配置下发观察期：期间吞吐骤降或拒绝激增时自动回滚到下发前的参数
+    @Builder.Default
+    private long probationMs = 30000; // 观察期时长，0 表示不观察
+    @Builder.Default
+    private double probationThroughputDropRatio = 0.5; // 仍有积压时吞吐低于基线的该比例视为劣化
+    @Builder.Default
+    private double probationRejectionSpikeRatio = 2.0; // 拒绝速率超过基线的该倍数（且至少 1 次/秒）视为劣化
     // 功能开关
     @Builder.Default
     private boolean useSystemMetrics = true; // 是否使用系统指标
@@ -0,0 +1,35 @@
+package com.jovia.dynamic.threadpool.core.model.vo;
+
+/**
+ * 执行器类型
+ *
+ * @author Jay
+ * @date 2025-11-23-16:20
+ */
+public enum ExecutorType {
+
+    THREAD_POOL("threadPool", 0), // ThreadPoolExecutor，共享工作队列，支持自动调整
+    FORK_JOIN("forkJoin", 1), // ForkJoinPool，工作窃取，只支持调整并行度
+    SCHEDULED("scheduled", 2), // ScheduledThreadPoolExecutor，延迟队列无界，只支持调整核心线程数
+    VIRTUAL("virtual", 3); // 每个任务一个虚拟线程，信号量限制并发，只支持调整并发上限
+
+    public final String desc;
+    public final int code;
+
+    ExecutorType(String desc, int code) {
+        this.desc = desc;
+        this.code = code;
+    }
+
+    /**
+     * 按描述或枚举名解析（忽略大小写），无法识别时返回 null
+     */
+    public static ExecutorType of(String value) {
+        for (ExecutorType type : values()) {
+            if (type.desc.equalsIgnoreCase(value) || type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
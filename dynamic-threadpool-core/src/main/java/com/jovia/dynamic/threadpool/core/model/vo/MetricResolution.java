@@ -0,0 +1,44 @@
+package com.jovia.dynamic.threadpool.core.model.vo;
+
+/**
+ * 时序指标的降采样精度及各自的保留时长
+ *
+ * @author Jay
+ * @date 2025-11-22-14:12
+ */
+public enum MetricResolution {
+
+    SECOND("1s", 0, 1000L, 300), // 保留 5 分钟
+    TEN_SECONDS("10s", 1, 10_000L, 360), // 保留 1 小时
+    MINUTE("1m", 2, 60_000L, 360); // 保留 6 小时
+
+    public final String desc;
+    public final int code;
+    /** 每个数据点覆盖的时长 */
+    public final long slotMillis;
+    /** 保留的数据点个数 */
+    public final int slots;
+
+    MetricResolution(String desc, int code, long slotMillis, int slots) {
+        this.desc = desc;
+        this.code = code;
+        this.slotMillis = slotMillis;
+        this.slots = slots;
+    }
+
+    public long retentionMillis() {
+        return slotMillis * slots;
+    }
+
+    /**
+     * 按描述或枚举名解析（忽略大小写），无法识别时返回 null
+     */
+    public static MetricResolution of(String value) {
+        for (MetricResolution resolution : values()) {
+            if (resolution.desc.equalsIgnoreCase(value) || resolution.name().equalsIgnoreCase(value)) {
+                return resolution;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.jovia.dynamic.threadpool.core.model.vo;
+
+/**
+ * 时序指标项，每秒由控制循环采样一次
+ *
+ * @author Jay
+ * @date 2025-11-22-14:10
+ */
+public enum MetricSeries {
+
+    ACTIVE_COUNT("activeCount", 0), // 活跃线程数
+    POOL_SIZE("poolSize", 1), // 当前线程数
+    CORE_POOL_SIZE("corePoolSize", 2), // 核心线程数
+    MAXIMUM_POOL_SIZE("maximumPoolSize", 3), // 最大线程数
+    QUEUE_SIZE("queueSize", 4), // 排队任务数
+    THROUGHPUT("throughput", 5), // 每秒完成任务数
+    REJECTION_RATE("rejectionRate", 6), // 每秒拒绝任务数
+    QUEUE_WAIT("queueWait", 7), // EWMA 队列等待时间（ms）
+    TASK_TIME("taskTime", 8), // EWMA 任务执行时间（ms）
+    EXPIRED_RATE("expiredRate", 9); // 每秒排队过期未执行的任务数
+
+    public final String desc;
+    public final int code;
+
+    MetricSeries(String desc, int code) {
+        this.desc = desc;
+        this.code = code;
+    }
+
+    /**
+     * 按描述或枚举名解析（忽略大小写），无法识别时返回 null
+     */
+    public static MetricSeries of(String value) {
+        for (MetricSeries series : values()) {
+            if (series.desc.equalsIgnoreCase(value) || series.name().equalsIgnoreCase(value)) {
+                return series;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.jovia.dynamic.threadpool.core.model.vo;
+
+/**
+ * 工作队列类型
+ *
+ * @author Jay
+ * @date 2025-11-19-21:10
+ */
+public enum QueueType {
+
+    LINKED("linked", 0), // 双锁链表队列，默认
+    ARRAY("array", 1), // 数组环形队列，无节点分配
+    PRIORITY("priority", 2), // 有界优先级队列
+    MPMC("mpmc", 3), // 无锁多生产者多消费者队列
+    SYNCHRONOUS("synchronous", 4), // 直接移交，不缓存任务
+    FAIR("fair", 5), // 按 key 加权公平调度
+    LANE("lane", 6); // 多通道优先级，低优先级按等待时间老化提升
+
+    public final String desc;
+    public final int code;
+
+    QueueType(String desc, int code) {
+        this.desc = desc;
+        this.code = code;
+    }
+
+    /**
+     * 按描述或枚举名解析（忽略大小写），无法识别时返回 null。
+     * 兼容旧版本上报的队列类名
+     */
+    public static QueueType of(String value) {
+        for (QueueType type : values()) {
+            if (type.desc.equalsIgnoreCase(value) || type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        if ("ResizableBlockingQueue".equals(value)) {
+            return LINKED;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jovia.dynamic.threadpool.core.model.vo;
+
+/**
+ * 可由配置中心下发的拒绝策略，desc 与策略类名一致，兼容上报的 handler 字段。
+ * 带参数的策略按 "desc:参数" 下发，如 "OverflowSpillPolicy:2000"，省略参数时取 defaultParam
+ *
+ * @author Jay
+ * @date 2025-11-23-18:10
+ */
+public enum RejectPolicy {
+
+    ABORT("AbortPolicy", 0, 0), // 抛出 RejectedExecutionException
+    CALLER_RUNS("CallerRunsPolicy", 1, 0), // 由提交线程执行
+    DISCARD("DiscardPolicy", 2, 0), // 静默丢弃
+    DISCARD_OLDEST("DiscardOldestPolicy", 3, 0), // 丢弃队首任务后重试提交
+    RATE_LIMITED_CALLER_RUNS("RateLimitedCallerRunsPolicy", 4, 100), // 由提交线程执行，参数为每秒上限，超出时拒绝
+    TIMED_BLOCKING("TimedBlockingPolicy", 5, 200), // 阻塞等待队列空位，参数为最长等待时间（ms），超时拒绝
+    AGED_DISCARD_OLDEST("AgedDiscardOldestPolicy", 6, 1000), // 队首任务排队超过参数（ms）时丢弃队首，否则拒绝新任务
+    OVERFLOW_SPILL("OverflowSpillPolicy", 7, 1000); // 放入溢出缓冲区，主队列有空位时回填，参数为缓冲区容量
+
+    public final String desc;
+    public final int code;
+    /** 默认参数，0 表示策略不带参数 */
+    public final long defaultParam;
+
+    RejectPolicy(String desc, int code, long defaultParam) {
+        this.desc = desc;
+        this.code = code;
+        this.defaultParam = defaultParam;
+    }
+
+    /**
+     * 按描述或枚举名解析（忽略大小写），无法识别时返回 null
+     */
+    public static RejectPolicy of(String value) {
+        for (RejectPolicy policy : values()) {
+            if (policy.desc.equalsIgnoreCase(value) || policy.name().equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+}
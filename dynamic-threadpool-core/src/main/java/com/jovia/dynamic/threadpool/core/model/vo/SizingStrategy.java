@@ -0,0 +1,33 @@
+package com.jovia.dynamic.threadpool.core.model.vo;
+
+/**
+ * 自动调整的线程数计算方式
+ *
+ * @author Jay
+ * @date 2025-11-22-16:30
+ */
+public enum SizingStrategy {
+
+    STEP("step", 0), // 按固定步长逐步扩缩容，默认
+    LITTLE("little", 1); // 按目标队列等待 p99 与利特尔法则直接计算所需并发
+
+    public final String desc;
+    public final int code;
+
+    SizingStrategy(String desc, int code) {
+        this.desc = desc;
+        this.code = code;
+    }
+
+    /**
+     * 按描述或枚举名解析（忽略大小写），无法识别时返回 null
+     */
+    public static SizingStrategy of(String value) {
+        for (SizingStrategy strategy : values()) {
+            if (strategy.desc.equalsIgnoreCase(value) || strategy.name().equalsIgnoreCase(value)) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+}
@@ -2,18 +2,48 @@ package com.jovia.dynamic.threadpool.core.service;
 
 
 import com.alibaba.fastjson2.JSON;
+import com.jovia.dynamic.threadpool.core.domain.metrics.MetricsTimeSeries;
+import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveForkJoinExecutor;
 import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveThreadPoolExecutor;
+import com.jovia.dynamic.threadpool.core.domain.pool.FairBlockingQueue;
+import com.jovia.dynamic.threadpool.core.domain.pool.PriorityLaneBlockingQueue;
+import com.jovia.dynamic.threadpool.core.domain.pool.RejectPolicyFactory;
+import com.jovia.dynamic.threadpool.core.domain.pool.ScheduledThreadPools;
+import com.jovia.dynamic.threadpool.core.domain.pool.VirtualThreadPoolExecutor;
 import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolContext;
+import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolStatusAggregate;
+import com.jovia.dynamic.threadpool.core.model.entity.FairKeyMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.MetricAggregate;
+import com.jovia.dynamic.threadpool.core.model.entity.PriorityLaneMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.RejectPolicyMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.MetricPoint;
+import com.jovia.dynamic.threadpool.core.model.entity.ResizeEvent;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+import com.jovia.dynamic.threadpool.core.model.vo.AdjustMode;
+import com.jovia.dynamic.threadpool.core.model.vo.AutoAdjustConfig;
+import com.jovia.dynamic.threadpool.core.model.vo.MetricResolution;
+import com.jovia.dynamic.threadpool.core.model.vo.MetricSeries;
+import com.jovia.dynamic.threadpool.core.model.vo.QueueType;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 
 /**
@@ -25,11 +55,45 @@ public class DynamicThreadPoolService implements IDynamicThreadPoolService {
 
     private final Logger logger = LoggerFactory.getLogger(DynamicThreadPoolService.class);
     private final Map<String, ThreadPoolContext> threadPoolContextMap;
+    // ForkJoin 执行器单独管理，不参与自动调整与时序指标
+    private final Map<String, AdaptiveForkJoinExecutor> forkJoinPoolMap;
+    // 定时线程池不替换，只托管核心线程数与基础指标
+    private final Map<String, ScheduledThreadPoolExecutor> scheduledPoolMap;
+    // 虚拟线程执行器只有并发上限可调，不参与自动调整
+    private final Map<String, VirtualThreadPoolExecutor> virtualPoolMap;
     private final String appName;
 
+    // 配置观察期至少需要的采样点数
+    private static final int PROBATION_MIN_SAMPLES = 3;
+
+    // 各线程池已应用的配置版本（lastUpdateTime）
+    private final Map<String, Long> appliedVersions = new ConcurrentHashMap<>();
+    // 处于观察期的配置变更，首次进入观察期时才创建检查线程
+    private final Map<String, Probation> probations = new ConcurrentHashMap<>();
+    private ScheduledExecutorService probationScheduler;
+    private boolean closed;
+    // 最近一次心跳统计到的本应用存活实例数，用于均分集群并发预算
+    private volatile int fleetInstanceCount = 1;
+    private final List<Consumer<ThreadPoolConfig>> configChangeListeners = new CopyOnWriteArrayList<>();
+
     public DynamicThreadPoolService(String appName, Map<String, AdaptiveThreadPoolExecutor> threadPoolMap) {
+        this(appName, threadPoolMap, Collections.emptyMap());
+    }
+
+    public DynamicThreadPoolService(String appName, Map<String, AdaptiveThreadPoolExecutor> threadPoolMap,
+                                    Map<String, AdaptiveForkJoinExecutor> forkJoinPoolMap) {
+        this(appName, threadPoolMap, forkJoinPoolMap, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public DynamicThreadPoolService(String appName, Map<String, AdaptiveThreadPoolExecutor> threadPoolMap,
+                                    Map<String, AdaptiveForkJoinExecutor> forkJoinPoolMap,
+                                    Map<String, ScheduledThreadPoolExecutor> scheduledPoolMap,
+                                    Map<String, VirtualThreadPoolExecutor> virtualPoolMap) {
         this.appName = appName;
         this.threadPoolContextMap = buildContext(threadPoolMap);
+        this.forkJoinPoolMap = new ConcurrentHashMap<>(forkJoinPoolMap);
+        this.scheduledPoolMap = new ConcurrentHashMap<>(scheduledPoolMap);
+        this.virtualPoolMap = new ConcurrentHashMap<>(virtualPoolMap);
     }
 
     private Map<String, ThreadPoolContext> buildContext(Map<String, AdaptiveThreadPoolExecutor> threadPoolMap) {
@@ -47,8 +111,11 @@ public class DynamicThreadPoolService implements IDynamicThreadPoolService {
 
             ThreadPoolConfig config = threadPoolExecutor.getThreadPoolConfig();
             config.setThreadPoolName(threadPoolName);
+            config.setAppName(appName);
             
-            ThreadPoolMetrics metrics = collectMetrics(threadPoolName);
+            ThreadPoolMetrics metrics = threadPoolExecutor.getThreadPoolMetrics();
+            metrics.setPoolName(threadPoolName);
+            metrics.setAppName(appName);
 
             ThreadPoolContext threadPoolContext = new ThreadPoolContext(appName, threadPoolName, threadPoolExecutor, config, metrics);
             threadPoolContextMap.put(threadPoolName, threadPoolContext);
@@ -77,43 +144,559 @@ public class DynamicThreadPoolService implements IDynamicThreadPoolService {
         return threadPoolContext;
     }
 
+    @Override
+    public Map<String, AdaptiveForkJoinExecutor> queryForkJoinPools() {
+        return Collections.unmodifiableMap(forkJoinPoolMap);
+    }
+
+    @Override
+    public Map<String, ScheduledThreadPoolExecutor> queryScheduledPools() {
+        return Collections.unmodifiableMap(scheduledPoolMap);
+    }
+
+    @Override
+    public Map<String, VirtualThreadPoolExecutor> queryVirtualPools() {
+        return Collections.unmodifiableMap(virtualPoolMap);
+    }
+
     @Override
     public void updateThreadPoolConfig(ThreadPoolConfig config) {
+        String poolName = config.getThreadPoolName();
 
-        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(config.getThreadPoolName());
-        AdaptiveThreadPoolExecutor threadPoolExecutor = threadPoolContext.getThreadPoolExecutor();
+        AdaptiveForkJoinExecutor forkJoinExecutor = forkJoinPoolMap.get(poolName);
+        if (forkJoinExecutor != null) {
+            boolean applied;
+            synchronized (forkJoinExecutor) {
+                applied = !isStale(poolName, config.getLastUpdateTime()) && updateForkJoinConfig(forkJoinExecutor, config);
+            }
+            if (applied) {
+                publishConfigChange(poolName);
+            }
+            return;
+        }
+
+        ScheduledThreadPoolExecutor scheduledExecutor = scheduledPoolMap.get(poolName);
+        if (scheduledExecutor != null) {
+            boolean applied;
+            synchronized (scheduledExecutor) {
+                applied = !isStale(poolName, config.getLastUpdateTime()) && updateScheduledConfig(scheduledExecutor, config);
+            }
+            if (applied) {
+                publishConfigChange(poolName);
+            }
+            return;
+        }
+
+        VirtualThreadPoolExecutor virtualExecutor = virtualPoolMap.get(poolName);
+        if (virtualExecutor != null) {
+            boolean applied;
+            synchronized (virtualExecutor) {
+                applied = !isStale(poolName, config.getLastUpdateTime()) && updateVirtualConfig(virtualExecutor, config);
+            }
+            if (applied) {
+                publishConfigChange(poolName);
+            }
+            return;
+        }
+
+        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
+        AdaptiveThreadPoolExecutor threadPoolExecutor = threadPoolContext == null ? null : threadPoolContext.getThreadPoolExecutor();
 
         if (threadPoolExecutor == null) {
-            logger.warn("[动态线程池] 未找到线程池: {}", config.getThreadPoolName());
+            logger.warn("[动态线程池] 未找到线程池: {}", poolName);
             return;
         }
 
+        // 同一线程池的配置更新与回滚串行执行
+        synchronized (threadPoolContext) {
+            if (isStale(poolName, config.getLastUpdateTime())) {
+                return;
+            }
+            String error = validate(threadPoolExecutor, config);
+            if (error != null) {
+                logger.warn("[动态线程池] 配置不合法: {}, 线程池 {} 版本 {} 整体跳过", error, poolName, config.getLastUpdateTime());
+                return;
+            }
+
+            PreviousState previous = new PreviousState(threadPoolExecutor);
+            try {
+                applyConfig(threadPoolExecutor, config);
+            } catch (RuntimeException e) {
+                logger.warn("[动态线程池] 线程池 {} 应用配置失败，恢复到变更前的参数", poolName, e);
+                restore(threadPoolExecutor, previous);
+                return;
+            }
+            if (config.getLastUpdateTime() > 0) {
+                appliedVersions.put(poolName, config.getLastUpdateTime());
+            }
+            startProbation(threadPoolContext, previous, config.getLastUpdateTime());
+        }
+        publishConfigChange(poolName);
+    }
+
+    @Override
+    public void addConfigChangeListener(Consumer<ThreadPoolConfig> listener) {
+        configChangeListeners.add(listener);
+    }
+
+    // 在线程池锁外回调，监听器拿到的是回调时刻的生效参数
+    private void publishConfigChange(String poolName) {
+        if (configChangeListeners.isEmpty()) {
+            return;
+        }
+        ThreadPoolConfig current = currentConfig(poolName);
+        if (current == null) {
+            return;
+        }
+        for (Consumer<ThreadPoolConfig> listener : configChangeListeners) {
+            try {
+                listener.accept(current);
+            } catch (RuntimeException e) {
+                logger.warn("[动态线程池] 参数变更监听器异常", e);
+            }
+        }
+    }
+
+    // 版本号为配置中心写入的 lastUpdateTime，不大于已应用版本的推送为乱序或重复消息；0 表示未携带版本
+    private boolean isStale(String poolName, long version) {
+        Long applied = appliedVersions.get(poolName);
+        if (version <= 0 || applied == null || version > applied) {
+            return false;
+        }
+        logger.info("[动态线程池] 线程池 {} 收到过期配置，版本 {} 不晚于已应用版本 {}，忽略", poolName, version, applied);
+        return true;
+    }
+
+    /**
+     * 应用前校验全部参数，任一不合法时整份配置都不生效
+     *
+     * @return 不合法的原因，合法时返回 null
+     */
+    private String validate(AdaptiveThreadPoolExecutor executor, ThreadPoolConfig config) {
         int coreSize = config.getCorePoolSize();
         int maxSize = config.getMaximumPoolSize();
-
         if (coreSize <= 0 || maxSize <= 0 || coreSize > maxSize) {
-            logger.warn("[动态线程池] 配置不合法: corePoolSize={}, maxPoolSize={}, 跳过更新", coreSize, maxSize);
+            return "corePoolSize=" + coreSize + ", maxPoolSize=" + maxSize;
+        }
+        if (config.getKeepAliveTime() < 0) {
+            return "keepAliveTime=" + config.getKeepAliveTime();
+        }
+        if (config.getQueueCapacity() < 0) {
+            return "queueCapacity=" + config.getQueueCapacity();
+        }
+        if (config.getFleetMaxPoolSize() < 0) {
+            return "fleetMaxPoolSize=" + config.getFleetMaxPoolSize();
+        }
+        if (StringUtils.isNotBlank(config.getQueueType()) && QueueType.of(config.getQueueType()) == null) {
+            return "未知的队列类型 " + config.getQueueType();
+        }
+        if (StringUtils.isNotBlank(config.getAdjustMode()) && AdjustMode.of(config.getAdjustMode()) == null) {
+            return "未知的调整模式 " + config.getAdjustMode();
+        }
+        // 自定义拒绝策略无法由配置中心创建，只接受与当前策略同名
+        if (StringUtils.isNotBlank(config.getHandler()) && RejectPolicyFactory.normalize(config.getHandler()) == null
+                && !config.getHandler().equals(RejectPolicyFactory.describe(executor.getRejectPolicyHandler()))) {
+            return "未知的拒绝策略 " + config.getHandler();
+        }
+        return null;
+    }
+
+    /**
+     * 按固定顺序应用参数：公平 / 通道参数 -> 队列类型 -> 线程数与队列容量 -> 存活时间 -> 拒绝策略 -> 调整模式。
+     * 调用前已通过 {@link #validate} 校验
+     */
+    private void applyConfig(AdaptiveThreadPoolExecutor threadPoolExecutor, ThreadPoolConfig config) {
+        // 公平队列参数先于队列切换应用，切换到公平队列时即按新参数生效；未下发权重时保持不变
+        Map<String, Integer> fairKeyWeights = config.getFairKeyWeights() == null
+                ? threadPoolExecutor.getFairKeyWeights() : FairBlockingQueue.parseWeights(config.getFairKeyWeights());
+        if (config.getFairKeyCapacity() != threadPoolExecutor.getFairKeyCapacity()
+                || !fairKeyWeights.equals(threadPoolExecutor.getFairKeyWeights())) {
+            threadPoolExecutor.setFairScheduling(config.getFairKeyCapacity(), fairKeyWeights);
+        }
+
+        // 优先级通道参数同样先于队列切换应用；未下发容量或老化周期时保持不变
+        int[] laneCapacities = config.getLaneCapacities() == null
+                ? threadPoolExecutor.getLaneCapacities() : PriorityLaneBlockingQueue.parseCapacities(config.getLaneCapacities());
+        long laneAgingMs = config.getLaneAgingMs() > 0 ? config.getLaneAgingMs() : threadPoolExecutor.getLaneAgingMs();
+        if (!Arrays.equals(laneCapacities, threadPoolExecutor.getLaneCapacities())
+                || laneAgingMs != threadPoolExecutor.getLaneAgingMs()) {
+            threadPoolExecutor.setPriorityLanes(laneCapacities, laneAgingMs);
+        }
+
+        // 队列类型，未下发时保持不变；切换时按目标容量创建新队列
+        int queueCapacity = config.getQueueCapacity() > 0 ? config.getQueueCapacity() : threadPoolExecutor.getQueueCapacity();
+        QueueType queueType = StringUtils.isBlank(config.getQueueType()) ? threadPoolExecutor.getQueueType() : QueueType.of(config.getQueueType());
+        if (queueType != threadPoolExecutor.getQueueType()) {
+            threadPoolExecutor.switchQueue(queueType, queueCapacity);
+        }
+
+        // 线程数与队列容量由变更引擎按安全顺序调整，扩容预热核心线程，大幅缩容分步执行
+        threadPoolExecutor.resize(config.getCorePoolSize(), config.getMaximumPoolSize(), queueCapacity);
+
+        // 存活时间（秒），0 表示保持不变
+        if (config.getKeepAliveTime() > 0 && config.getKeepAliveTime() != threadPoolExecutor.getKeepAliveTime(TimeUnit.SECONDS)) {
+            threadPoolExecutor.setKeepAliveTime(config.getKeepAliveTime(), TimeUnit.SECONDS);
+        }
+
+        // 拒绝策略，与当前策略及参数相同时保持不变；切换不清零拒绝计数，溢出缓冲区中的任务继续回填
+        String handler = RejectPolicyFactory.normalize(config.getHandler());
+        if (handler != null && !handler.equals(RejectPolicyFactory.describe(threadPoolExecutor.getRejectPolicyHandler()))) {
+            threadPoolExecutor.setRejectedExecutionHandler(RejectPolicyFactory.create(handler));
+        }
+
+        // 调整模式
+        if (StringUtils.isNotBlank(config.getAdjustMode())) {
+            threadPoolExecutor.setAdjustMode(AdjustMode.of(config.getAdjustMode()));
+        }
+
+        // 集群并发预算，按最近一次统计的实例数立即换算份额
+        if (config.getFleetMaxPoolSize() != threadPoolExecutor.getFleetMaxPoolSize()) {
+            threadPoolExecutor.setFleetMaxPoolSize(config.getFleetMaxPoolSize());
+            threadPoolExecutor.setFleetPoolSizeLimit(fleetShare(config.getFleetMaxPoolSize(), fleetInstanceCount));
+        }
+    }
+
+    @Override
+    public void applyFleetBudget(int instanceCount) {
+        int instances = Math.max(1, instanceCount);
+        fleetInstanceCount = instances;
+        for (ThreadPoolContext context : threadPoolContextMap.values()) {
+            AdaptiveThreadPoolExecutor executor = context.getThreadPoolExecutor();
+            executor.setFleetPoolSizeLimit(fleetShare(executor.getFleetMaxPoolSize(), instances));
+        }
+    }
+
+    // 向下取整均分，各实例份额之和不超过预算；实例数多于预算时每个实例至少保留 1 个线程
+    private static int fleetShare(int fleetMaxPoolSize, int instances) {
+        return fleetMaxPoolSize > 0 ? Math.max(1, fleetMaxPoolSize / instances) : 0;
+    }
+
+    // 恢复到变更前的快照；快照中为空的公平权重与通道容量显式置空，避免按"未下发保持不变"保留新值
+    private void restore(AdaptiveThreadPoolExecutor threadPoolExecutor, PreviousState previous) {
+        ThreadPoolConfig config = previous.config;
+        if (config.getFairKeyWeights() == null) {
+            config.setFairKeyWeights("");
+        }
+        if (config.getLaneCapacities() == null) {
+            config.setLaneCapacities("");
+        }
+        // 拒绝策略按原实例恢复，自定义策略无法按名称重建，内置策略也保留原实例的溢出缓冲等状态
+        config.setHandler(null);
+        try {
+            applyConfig(threadPoolExecutor, config);
+            if (threadPoolExecutor.getRejectPolicyHandler() != previous.handler) {
+                threadPoolExecutor.setRejectedExecutionHandler(previous.handler);
+            }
+            // applyConfig 按秒比较且 0 表示保持不变，亚秒级的原存活时间在这里精确恢复
+            long keepAliveNanos = previous.keepAliveNanos;
+            if (keepAliveNanos != threadPoolExecutor.getKeepAliveTime(TimeUnit.NANOSECONDS)
+                    && (keepAliveNanos > 0 || !threadPoolExecutor.allowsCoreThreadTimeOut())) {
+                threadPoolExecutor.setKeepAliveTime(keepAliveNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RuntimeException e) {
+            logger.error("[动态线程池] 恢复线程池参数失败: {}", JSON.toJSONString(config), e);
+        }
+    }
+
+    /**
+     * 进入观察期：以变更前同样长度窗口内的吞吐、拒绝速率与排队数为基线，
+     * 观察期内出现拒绝激增，或仍有积压而吞吐明显下降时，自动回滚到变更前的参数；观察期结束即确认生效。
+     * 变更前没有采样数据（控制循环未运行）时不观察
+     */
+    private void startProbation(ThreadPoolContext context, PreviousState previous, long version) {
+        AdaptiveThreadPoolExecutor executor = context.getThreadPoolExecutor();
+        long probationMs = executor.getAutoAdjustConfig().getProbationMs();
+        if (probationMs <= 0) {
+            probations.remove(context.getThreadPoolName());
+            return;
+        }
+        long now = System.currentTimeMillis();
+        MetricsTimeSeries timeSeries = executor.getTimeSeries();
+        MetricAggregate throughput = timeSeries.aggregate(MetricSeries.THROUGHPUT, now - probationMs, now);
+        if (throughput.getSamples() == 0) {
+            probations.remove(context.getThreadPoolName());
+            return;
+        }
+        Probation probation = new Probation(previous, version, now, throughput.getAvg(),
+                timeSeries.aggregate(MetricSeries.REJECTION_RATE, now - probationMs, now).getAvg(),
+                timeSeries.aggregate(MetricSeries.QUEUE_SIZE, now - probationMs, now).getAvg());
+        // 新的变更覆盖进行中的观察期，回滚目标随之变为本次变更前的参数
+        probations.put(context.getThreadPoolName(), probation);
+        probationScheduler();
+    }
+
+    private synchronized void probationScheduler() {
+        if (probationScheduler != null || closed) {
             return;
         }
+        probationScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "adaptive-thread-pool-config-probation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        probationScheduler.scheduleWithFixedDelay(this::checkProbations, 1, 1, TimeUnit.SECONDS);
+    }
 
-        // 设置核心线程数和最大线程数,先更新最大线程数
-        threadPoolExecutor.setCorePoolSize(coreSize);
-        threadPoolExecutor.setMaximumPoolSize(maxSize);
+    /**
+     * 停止配置观察线程，进行中的观察期不再回滚；由容器销毁 Bean 时调用
+     */
+    public synchronized void close() {
+        closed = true;
+        probations.clear();
+        if (probationScheduler != null) {
+            probationScheduler.shutdownNow();
+            probationScheduler = null;
+        }
+    }
+
+    private void checkProbations() {
+        for (Map.Entry<String, Probation> entry : probations.entrySet()) {
+            ThreadPoolContext context = threadPoolContextMap.get(entry.getKey());
+            if (context == null) {
+                probations.remove(entry.getKey());
+                continue;
+            }
+            try {
+                boolean rolledBack = false;
+                synchronized (context) {
+                    // 等待锁期间可能已有新的变更开始观察
+                    if (probations.get(entry.getKey()) == entry.getValue()) {
+                        rolledBack = checkProbation(context, entry.getValue());
+                    }
+                }
+                if (rolledBack) {
+                    publishConfigChange(entry.getKey());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("[动态线程池] 线程池 {} 配置观察异常", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * @return 是否发生了回滚
+     */
+    private boolean checkProbation(ThreadPoolContext context, Probation probation) {
+        String poolName = context.getThreadPoolName();
+        AdaptiveThreadPoolExecutor executor = context.getThreadPoolExecutor();
+        AutoAdjustConfig adjustConfig = executor.getAutoAdjustConfig();
+        long now = System.currentTimeMillis();
+        MetricsTimeSeries timeSeries = executor.getTimeSeries();
+        MetricAggregate throughput = timeSeries.aggregate(MetricSeries.THROUGHPUT, probation.startTime, now);
+
+        // 至少积累几个采样点再判断，避免变更瞬间的抖动触发回滚
+        if (throughput.getSamples() >= PROBATION_MIN_SAMPLES) {
+            double rejectionRate = timeSeries.aggregate(MetricSeries.REJECTION_RATE, probation.startTime, now).getAvg();
+            double queueSize = timeSeries.aggregate(MetricSeries.QUEUE_SIZE, probation.startTime, now).getAvg();
+            String reason = null;
+            if (rejectionRate > Math.max(1.0, probation.baselineRejectionRate * adjustConfig.getProbationRejectionSpikeRatio())) {
+                reason = String.format("拒绝速率 %.2f/s，基线 %.2f/s", rejectionRate, probation.baselineRejectionRate);
+            } else if (throughput.getAvg() < probation.baselineThroughput * (1 - adjustConfig.getProbationThroughputDropRatio())
+                    && queueSize > probation.baselineQueueSize) {
+                reason = String.format("吞吐 %.2f/s，基线 %.2f/s，平均排队 %.1f，基线 %.1f", throughput.getAvg(),
+                        probation.baselineThroughput, queueSize, probation.baselineQueueSize);
+            }
+            if (reason != null) {
+                probations.remove(poolName);
+                logger.warn("[动态线程池] 线程池 {} 版本 {} 观察期内指标劣化（{}），回滚到变更前的参数", poolName, probation.version, reason);
+                // 回滚不撤销版本号，重复推送的同一版本不会再次生效
+                restore(executor, probation.previous);
+                return true;
+            }
+        }
+        if (now - probation.startTime >= adjustConfig.getProbationMs()) {
+            probations.remove(poolName);
+            logger.info("[动态线程池] 线程池 {} 版本 {} 观察期结束，配置确认生效", poolName, probation.version);
+        }
+        return false;
+    }
+
+    // ForkJoin 执行器只有并行度可调，取 corePoolSize
+    private boolean updateForkJoinConfig(AdaptiveForkJoinExecutor executor, ThreadPoolConfig config) {
+        if (config.getCorePoolSize() <= 0) {
+            logger.warn("[动态线程池] 配置不合法: ForkJoin 并行度={}, 跳过更新", config.getCorePoolSize());
+            return false;
+        }
+        executor.setParallelism(config.getCorePoolSize());
+        if (config.getLastUpdateTime() > 0) {
+            appliedVersions.put(config.getThreadPoolName(), config.getLastUpdateTime());
+        }
+        return true;
+    }
+
+    // 定时线程池的线程数固定为核心线程数，只取 corePoolSize
+    private boolean updateScheduledConfig(ScheduledThreadPoolExecutor executor, ThreadPoolConfig config) {
+        if (config.getCorePoolSize() <= 0) {
+            logger.warn("[动态线程池] 配置不合法: 定时线程池 corePoolSize={}, 跳过更新", config.getCorePoolSize());
+            return false;
+        }
+        executor.setCorePoolSize(config.getCorePoolSize());
+        if (config.getLastUpdateTime() > 0) {
+            appliedVersions.put(config.getThreadPoolName(), config.getLastUpdateTime());
+        }
+        return true;
+    }
+
+    // 虚拟线程执行器的并发上限取 maximumPoolSize，先调整上限再调整核心数，保证两者始终满足 core <= max
+    private boolean updateVirtualConfig(VirtualThreadPoolExecutor executor, ThreadPoolConfig config) {
+        int coreSize = config.getCorePoolSize();
+        int maxSize = config.getMaximumPoolSize();
+        if (coreSize <= 0 || maxSize <= 0 || coreSize > maxSize) {
+            logger.warn("[动态线程池] 配置不合法: 虚拟线程 corePoolSize={}, maxPoolSize={}, 跳过更新", coreSize, maxSize);
+            return false;
+        }
+        if (maxSize >= executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(maxSize);
+            executor.setCorePoolSize(coreSize);
+        } else {
+            executor.setCorePoolSize(coreSize);
+            executor.setMaximumPoolSize(maxSize);
+        }
+        if (config.getLastUpdateTime() > 0) {
+            appliedVersions.put(config.getThreadPoolName(), config.getLastUpdateTime());
+        }
+        return true;
     }
 
     @Override
     public ThreadPoolMetrics collectMetrics(String poolName) {
+        ThreadPoolMetrics metrics;
+        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
+        if (threadPoolContext != null) {
+            metrics = threadPoolContext.getThreadPoolExecutor().getThreadPoolMetrics();
+        } else if (forkJoinPoolMap.containsKey(poolName)) {
+            metrics = forkJoinPoolMap.get(poolName).getThreadPoolMetrics();
+        } else if (scheduledPoolMap.containsKey(poolName)) {
+            metrics = ScheduledThreadPools.metricsOf(scheduledPoolMap.get(poolName));
+        } else if (virtualPoolMap.containsKey(poolName)) {
+            metrics = virtualPoolMap.get(poolName).getThreadPoolMetrics();
+        } else {
+            return null;
+        }
+        metrics.setPoolName(poolName);
+        metrics.setAppName(appName);
+        return metrics;
+    }
 
+    private ThreadPoolConfig currentConfig(String poolName) {
+        ThreadPoolConfig config;
+        ThreadPoolContext context = threadPoolContextMap.get(poolName);
+        if (context != null) {
+            config = context.getThreadPoolExecutor().getThreadPoolConfig();
+        } else if (forkJoinPoolMap.containsKey(poolName)) {
+            config = forkJoinPoolMap.get(poolName).getThreadPoolConfig();
+        } else if (scheduledPoolMap.containsKey(poolName)) {
+            config = ScheduledThreadPools.configOf(scheduledPoolMap.get(poolName));
+        } else if (virtualPoolMap.containsKey(poolName)) {
+            config = virtualPoolMap.get(poolName).getThreadPoolConfig();
+        } else {
+            return null;
+        }
+        config.setThreadPoolName(poolName);
+        config.setAppName(appName);
+        config.setLastUpdateTime(appliedVersions.getOrDefault(poolName, 0L));
+        return config;
+    }
+
+    @Override
+    public List<ThreadPoolStatusAggregate> snapshotAll() {
+        List<String> poolNames = new ArrayList<>(threadPoolContextMap.keySet());
+        poolNames.addAll(forkJoinPoolMap.keySet());
+        poolNames.addAll(scheduledPoolMap.keySet());
+        poolNames.addAll(virtualPoolMap.keySet());
+        List<ThreadPoolStatusAggregate> snapshot = new ArrayList<>(poolNames.size());
+        for (String poolName : poolNames) {
+            snapshot.add(new ThreadPoolStatusAggregate(currentConfig(poolName), collectMetrics(poolName)));
+        }
+        return snapshot;
+    }
+
+    @Override
+    public List<MetricPoint> queryMetricHistory(String poolName, MetricSeries series, MetricResolution resolution, long fromMs, long toMs) {
+        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
+        if (threadPoolContext == null) {
+            return Collections.emptyList();
+        }
+        return threadPoolContext.getThreadPoolExecutor().getTimeSeries().query(series, resolution, fromMs, toMs);
+    }
+
+    @Override
+    public MetricAggregate aggregateMetricHistory(String poolName, MetricSeries series, long fromMs, long toMs) {
         ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
         if (threadPoolContext == null) {
             return null;
         }
-        AdaptiveThreadPoolExecutor threadPoolExecutor = threadPoolContext.getThreadPoolExecutor();
+        return threadPoolContext.getThreadPoolExecutor().getTimeSeries().aggregate(series, fromMs, toMs);
+    }
+
+    @Override
+    public List<ResizeEvent> queryResizeEvents(String poolName) {
+        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
+        if (threadPoolContext == null) {
+            return Collections.emptyList();
+        }
+        return threadPoolContext.getThreadPoolExecutor().getResizeEvents();
+    }
+
+    @Override
+    public List<FairKeyMetrics> collectFairKeyMetrics(String poolName) {
+        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
+        if (threadPoolContext == null) {
+            return Collections.emptyList();
+        }
+        return threadPoolContext.getThreadPoolExecutor().getFairKeyMetrics();
+    }
+
+    @Override
+    public List<PriorityLaneMetrics> collectPriorityLaneMetrics(String poolName) {
+        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
+        if (threadPoolContext == null) {
+            return Collections.emptyList();
+        }
+        return threadPoolContext.getThreadPoolExecutor().getPriorityLaneMetrics();
+    }
+
+    @Override
+    public List<RejectPolicyMetrics> collectRejectPolicyMetrics(String poolName) {
+        ThreadPoolContext threadPoolContext = threadPoolContextMap.get(poolName);
+        if (threadPoolContext == null) {
+            return Collections.emptyList();
+        }
+        return threadPoolContext.getThreadPoolExecutor().getRejectPolicyMetrics();
+    }
+
+    /**
+     * 变更前的参数，用于应用失败或观察期劣化时回滚：参数快照中存活时间按秒取整、拒绝策略只有名称，
+     * 另行保存纳秒精度的存活时间与拒绝策略实例
+     */
+    private static final class PreviousState {
+        final ThreadPoolConfig config;
+        final long keepAliveNanos;
+        final RejectedExecutionHandler handler;
 
-        ThreadPoolMetrics threadPoolMetrics = threadPoolExecutor.getThreadPoolMetrics();
-        threadPoolMetrics.setPoolName(poolName);
-        threadPoolMetrics.setAppName(appName);
-        
-        return threadPoolMetrics;
+        PreviousState(AdaptiveThreadPoolExecutor executor) {
+            this.config = executor.getThreadPoolConfig();
+            this.keepAliveNanos = executor.getKeepAliveTime(TimeUnit.NANOSECONDS);
+            this.handler = executor.getRejectPolicyHandler();
+        }
+    }
+
+    private static final class Probation {
+        final PreviousState previous;
+        final long version;
+        final long startTime;
+        final double baselineThroughput;
+        final double baselineRejectionRate;
+        final double baselineQueueSize;
+
+        Probation(PreviousState previous, long version, long startTime, double baselineThroughput,
+                  double baselineRejectionRate, double baselineQueueSize) {
+            this.previous = previous;
+            this.version = version;
+            this.startTime = startTime;
+            this.baselineThroughput = baselineThroughput;
+            this.baselineRejectionRate = baselineRejectionRate;
+            this.baselineQueueSize = baselineQueueSize;
+        }
     }
 }
@@ -1,11 +1,24 @@
 package com.jovia.dynamic.threadpool.core.service;
 
+import com.jovia.dynamic.threadpool.core.domain.pool.AdaptiveForkJoinExecutor;
+import com.jovia.dynamic.threadpool.core.domain.pool.VirtualThreadPoolExecutor;
 import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolContext;
 import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolStatusAggregate;
+import com.jovia.dynamic.threadpool.core.model.entity.FairKeyMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.MetricAggregate;
+import com.jovia.dynamic.threadpool.core.model.entity.PriorityLaneMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.RejectPolicyMetrics;
+import com.jovia.dynamic.threadpool.core.model.entity.MetricPoint;
+import com.jovia.dynamic.threadpool.core.model.entity.ResizeEvent;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+import com.jovia.dynamic.threadpool.core.model.vo.MetricResolution;
+import com.jovia.dynamic.threadpool.core.model.vo.MetricSeries;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Consumer;
 
 /**
  * @author Jay
@@ -16,8 +29,68 @@ public interface IDynamicThreadPoolService {
     List<ThreadPoolContext> queryAllThreadPools();
     
     ThreadPoolContext queryThreadPoolByName(String threadPoolName);
+
+    /**
+     * 托管的 ForkJoin 执行器，按 Bean 名称索引；参数更新、指标采集与快照同样覆盖这些执行器
+     */
+    Map<String, AdaptiveForkJoinExecutor> queryForkJoinPools();
+
+    /**
+     * 托管的定时线程池，按 Bean 名称索引；只支持调整核心线程数，指标采集与快照同样覆盖
+     */
+    Map<String, ScheduledThreadPoolExecutor> queryScheduledPools();
+
+    /**
+     * 托管的虚拟线程执行器，按 Bean 名称索引；只支持调整并发上限，指标采集与快照同样覆盖
+     */
+    Map<String, VirtualThreadPoolExecutor> queryVirtualPools();
     
     void updateThreadPoolConfig(ThreadPoolConfig threadPoolConfig);
 
+    /**
+     * 按本应用当前存活的实例数重新均分各线程池的集群并发预算（fleetMaxPoolSize），由注册中心的心跳周期调用
+     */
+    void applyFleetBudget(int instanceCount);
+
+    /**
+     * 注册参数变更监听器，配置更新生效或观察期回滚后回调，参数为线程池当前生效的参数（含已应用版本）
+     */
+    void addConfigChangeListener(Consumer<ThreadPoolConfig> listener);
+
     ThreadPoolMetrics collectMetrics(String poolName);
+
+    /**
+     * 一次遍历采集全部线程池的最新参数与运行指标
+     */
+    List<ThreadPoolStatusAggregate> snapshotAll();
+
+    /**
+     * 查询线程池在 [fromMs, toMs] 内指定精度的历史数据点，按时间升序；线程池不存在时返回空列表
+     */
+    List<MetricPoint> queryMetricHistory(String poolName, MetricSeries series, MetricResolution resolution, long fromMs, long toMs);
+
+    /**
+     * 聚合线程池在 [fromMs, toMs] 内的指标（最值、均值、趋势），线程池不存在时返回 null
+     */
+    MetricAggregate aggregateMetricHistory(String poolName, MetricSeries series, long fromMs, long toMs);
+
+    /**
+     * 最近的参数变更事件，按时间升序；线程池不存在时返回空列表
+     */
+    List<ResizeEvent> queryResizeEvents(String poolName);
+
+    /**
+     * 公平队列各 key 的排队指标，线程池不存在或不是公平队列时返回空列表
+     */
+    List<FairKeyMetrics> collectFairKeyMetrics(String poolName);
+
+    /**
+     * 优先级通道队列各通道的排队指标，按优先级从低到高排列；线程池不存在或不是通道队列时返回空列表
+     */
+    List<PriorityLaneMetrics> collectPriorityLaneMetrics(String poolName);
+
+    /**
+     * 各拒绝策略的处理指标（吸收 / 丢弃 / 报错次数、最近拒绝速率、溢出缓冲区），线程池不存在时返回空列表
+     */
+    List<RejectPolicyMetrics> collectRejectPolicyMetrics(String poolName);
 }
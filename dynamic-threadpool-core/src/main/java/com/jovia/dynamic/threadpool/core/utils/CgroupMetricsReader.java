@@ -0,0 +1,201 @@
+package com.jovia.dynamic.threadpool.core.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * cgroup 资源读取（v1 / v2）
+ * 容器内主机级别的 CPU、内存数值没有意义，这里读取当前进程所在 cgroup 的 CPU 配额、累计用量、限流次数与内存限制。
+ * 控制器路径按 /proc/self/cgroup 解析，对应目录不存在时（容器内 cgroup 命名空间已将其映射为根）回退到挂载点根目录。
+ * 所有读取失败都返回 -1，由调用方回退到主机指标。
+ *
+ * @author Jay
+ * @date 2025-11-22-17:20
+ */
+public class CgroupMetricsReader {
+
+    private static final Path CGROUP_ROOT = Paths.get("/sys/fs/cgroup");
+    private static final Path PROC_SELF_CGROUP = Paths.get("/proc/self/cgroup");
+
+    // v1 内存无限制时 limit_in_bytes 为接近 Long.MAX_VALUE 的页对齐值
+    private static final long V1_UNLIMITED_THRESHOLD = Long.MAX_VALUE / 2;
+
+    private final boolean v2;
+    private final Path cpuDir;
+    private final Path cpuAcctDir;
+    private final Path memoryDir;
+
+    private CgroupMetricsReader(boolean v2, Path cpuDir, Path cpuAcctDir, Path memoryDir) {
+        this.v2 = v2;
+        this.cpuDir = cpuDir;
+        this.cpuAcctDir = cpuAcctDir;
+        this.memoryDir = memoryDir;
+    }
+
+    /**
+     * 探测当前进程的 cgroup，非 Linux 或未挂载 cgroup 时返回 null
+     */
+    public static CgroupMetricsReader detect() {
+        if (!Files.isDirectory(CGROUP_ROOT) || !Files.isReadable(PROC_SELF_CGROUP)) {
+            return null;
+        }
+        Map<String, String> paths = new HashMap<>();
+        try {
+            // 每行格式：hierarchy-ID:controller-list:path，v2 的 controller-list 为空
+            for (String line : Files.readAllLines(PROC_SELF_CGROUP)) {
+                String[] parts = line.split(":", 3);
+                if (parts.length != 3) {
+                    continue;
+                }
+                for (String controller : parts[1].split(",")) {
+                    paths.put(controller, parts[2]);
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (Files.exists(CGROUP_ROOT.resolve("cgroup.controllers"))) {
+            Path dir = resolve(CGROUP_ROOT, paths.get(""));
+            return new CgroupMetricsReader(true, dir, dir, dir);
+        }
+        Path cpuMount = firstDirectory(CGROUP_ROOT.resolve("cpu"), CGROUP_ROOT.resolve("cpu,cpuacct"));
+        Path cpuAcctMount = firstDirectory(CGROUP_ROOT.resolve("cpuacct"), CGROUP_ROOT.resolve("cpu,cpuacct"));
+        Path memoryMount = firstDirectory(CGROUP_ROOT.resolve("memory"));
+        if (cpuMount == null && cpuAcctMount == null && memoryMount == null) {
+            return null;
+        }
+        return new CgroupMetricsReader(false,
+                resolve(cpuMount, paths.get("cpu")),
+                resolve(cpuAcctMount, paths.get("cpuacct")),
+                resolve(memoryMount, paths.get("memory")));
+    }
+
+    public String version() {
+        return v2 ? "cgroup-v2" : "cgroup-v1";
+    }
+
+    /**
+     * CPU 配额折算的核数，未设置配额时返回 -1
+     */
+    public double cpuLimit() {
+        if (v2) {
+            // cpu.max 格式："$MAX $PERIOD"，无限制时 MAX 为 max
+            String[] parts = readFirstLine(cpuDir.resolve("cpu.max")).trim().split("\\s+");
+            if (parts.length != 2 || "max".equals(parts[0])) {
+                return -1;
+            }
+            return quotaToCores(parseLong(parts[0]), parseLong(parts[1]));
+        }
+        return quotaToCores(readLong(cpuDir.resolve("cpu.cfs_quota_us")), readLong(cpuDir.resolve("cpu.cfs_period_us")));
+    }
+
+    /**
+     * cgroup 内所有进程累计使用的 CPU 时间（纳秒）
+     */
+    public long cpuUsageNanos() {
+        if (v2) {
+            long usec = readKeyValues(cpuDir.resolve("cpu.stat")).getOrDefault("usage_usec", -1L);
+            return usec < 0 ? -1 : usec * 1000L;
+        }
+        return readLong(cpuAcctDir.resolve("cpuacct.usage"));
+    }
+
+    /**
+     * 累计调度周期数与其中被限流的周期数，{periods, throttled}
+     */
+    public long[] throttling() {
+        Map<String, Long> stat = readKeyValues(cpuDir.resolve("cpu.stat"));
+        return new long[]{stat.getOrDefault("nr_periods", -1L), stat.getOrDefault("nr_throttled", -1L)};
+    }
+
+    /**
+     * 内存限制（字节），未设置限制时返回 -1
+     */
+    public long memoryLimitBytes() {
+        if (v2) {
+            String value = readFirstLine(memoryDir.resolve("memory.max")).trim();
+            return "max".equals(value) ? -1 : parseLong(value);
+        }
+        long limit = readLong(memoryDir.resolve("memory.limit_in_bytes"));
+        return limit >= V1_UNLIMITED_THRESHOLD ? -1 : limit;
+    }
+
+    /**
+     * 工作集内存（字节）：总用量扣除可回收的非活跃文件缓存，与 kubelet 的 OOM 判定口径一致
+     */
+    public long memoryWorkingSetBytes() {
+        long usage = readLong(memoryDir.resolve(v2 ? "memory.current" : "memory.usage_in_bytes"));
+        if (usage < 0) {
+            return -1;
+        }
+        Map<String, Long> stat = readKeyValues(memoryDir.resolve("memory.stat"));
+        long inactiveFile = stat.getOrDefault(v2 ? "inactive_file" : "total_inactive_file", 0L);
+        return Math.max(0L, usage - inactiveFile);
+    }
+
+    private static double quotaToCores(long quota, long period) {
+        return quota > 0 && period > 0 ? (double) quota / period : -1;
+    }
+
+    private static Path firstDirectory(Path... candidates) {
+        for (Path candidate : candidates) {
+            if (Files.isDirectory(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Path resolve(Path mount, String relative) {
+        if (mount == null) {
+            return CGROUP_ROOT;
+        }
+        if (relative == null || relative.isEmpty() || "/".equals(relative)) {
+            return mount;
+        }
+        Path dir = mount.resolve(relative.substring(1));
+        return Files.isDirectory(dir) ? dir : mount;
+    }
+
+    private static String readFirstLine(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file);
+            return lines.isEmpty() ? "" : lines.get(0);
+        } catch (IOException | RuntimeException e) {
+            return "";
+        }
+    }
+
+    private static long readLong(Path file) {
+        return parseLong(readFirstLine(file).trim());
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Map<String, Long> readKeyValues(Path file) {
+        Map<String, Long> values = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(file)) {
+                String[] parts = line.trim().split("\\s+");
+                if (parts.length == 2) {
+                    values.put(parts[0], parseLong(parts[1]));
+                }
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // 文件不存在或不可读，按缺失处理
+        }
+        return values;
+    }
+}
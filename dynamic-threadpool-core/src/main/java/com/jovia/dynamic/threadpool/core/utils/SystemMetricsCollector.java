@@ -2,11 +2,20 @@ package com.jovia.dynamic.threadpool.core.utils;
 
 import com.jovia.dynamic.threadpool.core.model.entity.SystemMetrics;
 import oshi.SystemInfo;
-import oshi.hardware.*;
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.HardwareAbstractionLayer;
 
-import java.util.Arrays;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
 
 /**
+ * 系统与 JVM 资源采集
+ * 每次采集与上一次采集求差得到区间值，不在采集线程上休眠；首次采集只建立基线，区间值为 0。
+ * 优先读取 cgroup 配额与用量，读不到时回退到 OSHI 主机指标。非线程安全，由 {@link SystemMetricsMonitor} 单线程调用。
+ *
  * @author Jay
  * @date 2025-10-27-16:01
  */
@@ -16,36 +25,111 @@ public class SystemMetricsCollector {
     private static final HardwareAbstractionLayer hal = systemInfo.getHardware();
     private static final CentralProcessor processor = hal.getProcessor();
     private static final GlobalMemory memory = hal.getMemory();
-    
-    public static SystemMetrics collect(long intervalMillis) throws InterruptedException {
-
-        // --- CPU ---
-        long[] ticksBefore = processor.getSystemCpuLoadTicks();
-        Thread.sleep(intervalMillis);
-        long[] ticksAfter = processor.getSystemCpuLoadTicks();
-
-        long user = ticksAfter[CentralProcessor.TickType.USER.getIndex()] -
-                    ticksBefore[CentralProcessor.TickType.USER.getIndex()];
-        long sys = ticksAfter[CentralProcessor.TickType.SYSTEM.getIndex()] -
-                   ticksBefore[CentralProcessor.TickType.SYSTEM.getIndex()];
-        long ioWait = ticksAfter[CentralProcessor.TickType.IOWAIT.getIndex()] -
-                      ticksBefore[CentralProcessor.TickType.IOWAIT.getIndex()];
-        long total = Arrays.stream(CentralProcessor.TickType.values())
-                .mapToLong(t -> ticksAfter[t.getIndex()] - ticksBefore[t.getIndex()])
-                .sum();
-
-        double cpuUsage = (double) (user + sys + ioWait) / total;
-
-        // --- Memory ---
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
-        double memoryUsedPercent = 1.0 - ((double) availableMemory / totalMemory);
 
-        // --- Collect Result ---
+    private final CgroupMetricsReader cgroup = CgroupMetricsReader.detect();
+    private final OperatingSystemMXBean osBean = ManagementFactory.getOperatingSystemMXBean();
+
+    // 上一次采集的累计值
+    private long lastTimeNanos = -1L;
+    private long lastCgroupCpuNanos = -1L;
+    private long lastPeriods = -1L;
+    private long lastThrottled = -1L;
+    private long lastProcessCpuNanos = -1L;
+    private long lastGcMillis = -1L;
+    private long[] lastTicks;
+
+    public SystemMetrics collect() {
+        long now = System.nanoTime();
+        long elapsedNanos = lastTimeNanos < 0 ? 0L : now - lastTimeNanos;
+        lastTimeNanos = now;
+
         SystemMetrics metrics = new SystemMetrics();
-        metrics.setCpuUsage(cpuUsage);
-        metrics.setMemoryUsedPercent(memoryUsedPercent);
+        double cpuLimit = cgroup != null ? cgroup.cpuLimit() : -1;
+        if (cpuLimit <= 0) {
+            cpuLimit = Runtime.getRuntime().availableProcessors();
+        }
+        metrics.setCpuLimit(cpuLimit);
 
+        collectCpu(metrics, elapsedNanos, cpuLimit);
+        collectMemory(metrics);
+        collectJvm(metrics, elapsedNanos, cpuLimit);
         return metrics;
     }
+
+    private void collectCpu(SystemMetrics metrics, long elapsedNanos, double cpuLimit) {
+        long cgroupCpu = cgroup != null ? cgroup.cpuUsageNanos() : -1L;
+        if (cgroupCpu >= 0) {
+            metrics.setSource(cgroup.version());
+            if (lastCgroupCpuNanos >= 0 && elapsedNanos > 0) {
+                metrics.setCpuUsage(clamp((cgroupCpu - lastCgroupCpuNanos) / (elapsedNanos * cpuLimit)));
+            }
+            lastCgroupCpuNanos = cgroupCpu;
+
+            long[] throttling = cgroup.throttling();
+            if (lastPeriods >= 0 && throttling[0] > lastPeriods) {
+                metrics.setCpuThrottledRatio(clamp((double) (throttling[1] - lastThrottled) / (throttling[0] - lastPeriods)));
+            }
+            lastPeriods = throttling[0];
+            lastThrottled = throttling[1];
+            return;
+        }
+
+        metrics.setSource("host");
+        long[] ticks = processor.getSystemCpuLoadTicks();
+        if (lastTicks != null) {
+            long busy = 0L;
+            long total = 0L;
+            for (CentralProcessor.TickType type : CentralProcessor.TickType.values()) {
+                long delta = ticks[type.getIndex()] - lastTicks[type.getIndex()];
+                total += delta;
+                if (type == CentralProcessor.TickType.USER || type == CentralProcessor.TickType.SYSTEM
+                        || type == CentralProcessor.TickType.IOWAIT) {
+                    busy += delta;
+                }
+            }
+            metrics.setCpuUsage(total > 0 ? clamp((double) busy / total) : 0.0);
+        }
+        lastTicks = ticks;
+    }
+
+    private void collectMemory(SystemMetrics metrics) {
+        long limit = cgroup != null ? cgroup.memoryLimitBytes() : -1L;
+        long workingSet = limit > 0 ? cgroup.memoryWorkingSetBytes() : -1L;
+        if (workingSet >= 0) {
+            metrics.setMemoryUsedPercent(clamp((double) workingSet / limit));
+            return;
+        }
+        long totalMemory = memory.getTotal();
+        long availableMemory = memory.getAvailable();
+        metrics.setMemoryUsedPercent(clamp(1.0 - ((double) availableMemory / totalMemory)));
+    }
+
+    private void collectJvm(SystemMetrics metrics, long elapsedNanos, double cpuLimit) {
+        if (osBean instanceof com.sun.management.OperatingSystemMXBean sunBean) {
+            long processCpu = sunBean.getProcessCpuTime();
+            if (processCpu >= 0 && lastProcessCpuNanos >= 0 && elapsedNanos > 0) {
+                metrics.setProcessCpuUsage(clamp((processCpu - lastProcessCpuNanos) / (elapsedNanos * cpuLimit)));
+            }
+            lastProcessCpuNanos = processCpu;
+        }
+
+        long gcMillis = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcMillis += Math.max(0L, gc.getCollectionTime());
+        }
+        if (lastGcMillis >= 0 && elapsedNanos > 0) {
+            long pause = gcMillis - lastGcMillis;
+            metrics.setGcPauseMillis(pause);
+            metrics.setGcPauseRatio(clamp(pause * 1_000_000.0 / elapsedNanos));
+        }
+        lastGcMillis = gcMillis;
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long heapMax = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+        metrics.setHeapUsedPercent(heapMax > 0 ? clamp((double) heap.getUsed() / heapMax) : 0.0);
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
 }
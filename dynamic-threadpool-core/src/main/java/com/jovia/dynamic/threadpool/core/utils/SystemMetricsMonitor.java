@@ -2,27 +2,57 @@ package com.jovia.dynamic.threadpool.core.utils;
 
 import com.jovia.dynamic.threadpool.core.model.entity.SystemMetrics;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * 系统资源采样器，全进程共用一个调度线程按固定间隔采集，重复调用 start 不会创建新线程
+ *
  * @author Jay
  * @date 2025-10-29-23:13
  */
+@Slf4j
 public class SystemMetricsMonitor {
     
     @Getter
     private static volatile SystemMetrics lastSystemMetrics;
+
+    private static ScheduledExecutorService scheduler;
+    // 连续失败时只打印第一次，恢复后重置
+    private static boolean failing = false;
     
-    public static void start(long intervalMs) {
-        Thread t = new Thread(() -> {
-            while (true) {
-                try{
-                    lastSystemMetrics = SystemMetricsCollector.collect(intervalMs);
-                }catch (Exception ignored){
-                    
-                }
-            }
+    public static synchronized void start(long intervalMs) {
+        if (scheduler != null) {
+            return;
+        }
+        SystemMetricsCollector collector = new SystemMetricsCollector();
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "adaptive-thread-pool-resource-sampler");
+            thread.setDaemon(true);
+            return thread;
         });
-        t.setDaemon(true);
-        t.start();
+        scheduler.scheduleAtFixedRate(() -> sample(collector), 0L, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private static void sample(SystemMetricsCollector collector) {
+        try {
+            lastSystemMetrics = collector.collect();
+            failing = false;
+        } catch (Throwable e) {
+            if (!failing) {
+                log.warn("[动态线程池] 系统资源采样失败，沿用上次结果", e);
+            }
+            failing = true;
+        }
     }
 }
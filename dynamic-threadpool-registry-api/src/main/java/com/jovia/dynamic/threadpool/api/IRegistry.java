@@ -2,8 +2,11 @@ package com.jovia.dynamic.threadpool.api;
 
 
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * 注册中心接口
@@ -23,4 +26,19 @@ public interface IRegistry {
      */
     void reportThreadPoolConfig(ThreadPoolConfig threadPoolConfig);
 
+    /**
+     * 上报当前应用的线程池运行指标（含延迟分位数）
+     */
+    void reportThreadPoolMetrics(List<ThreadPoolMetrics> threadPoolMetrics);
+
+    /**
+     * 批量上报发生变化的线程池参数与运行指标，实现方应尽量合并为一次往返并异步执行。
+     * 默认逐条同步上报
+     */
+    default CompletionStage<Void> reportThreadPoolStatus(List<ThreadPoolConfig> configs, List<ThreadPoolMetrics> metrics) {
+        configs.forEach(this::reportThreadPoolConfig);
+        reportThreadPoolMetrics(metrics);
+        return CompletableFuture.completedFuture(null);
+    }
+
 }
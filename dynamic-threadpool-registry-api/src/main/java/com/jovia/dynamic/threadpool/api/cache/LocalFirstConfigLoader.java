@@ -0,0 +1,153 @@
+package com.jovia.dynamic.threadpool.api.cache;
+
+import com.jovia.dynamic.threadpool.api.IConfigCenter;
+import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolStatusAggregate;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.service.IDynamicThreadPoolService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 本地优先的线程池参数加载
+ * 启动时先应用本地快照（只读本地文件，不等网络），再在后台线程从配置中心一次性拉取本应用的全部参数，
+ * 与快照对账后应用有差异的部分并刷新快照；拉取失败按指数退避重试，期间线程池保持快照中的参数。
+ * 配置中心不可用时冷启动仍能以上次生产环境的参数运行，而不是退回代码里的默认值。
+ * 参数应用统一经过 {@link IDynamicThreadPoolService#updateThreadPoolConfig}，版本不晚于已应用版本的配置不会重复生效。
+ * 快照跟随服务的参数变更回调刷新，配置推送生效与观察期回滚都会写入，回滚掉的参数不会在下次冷启动时被重新应用。
+ *
+ * @author Jay
+ * @date 2025-11-23-20:05
+ */
+@Slf4j
+public class LocalFirstConfigLoader {
+
+    private static final long INITIAL_RETRY_MS = 1000L;
+    private static final long MAX_RETRY_MS = 30000L;
+
+    private final IConfigCenter configCenter;
+    private final IDynamicThreadPoolService dynamicThreadPoolService;
+    private final ThreadPoolConfigSnapshot snapshot;
+    private final String appName;
+    private final ScheduledExecutorService executor;
+    // 已有待执行的快照写入时不再重复提交，短时间内的多次变更合并为一次写入
+    private final AtomicBoolean persistPending = new AtomicBoolean(false);
+
+    public LocalFirstConfigLoader(IConfigCenter configCenter, IDynamicThreadPoolService dynamicThreadPoolService,
+                                  ThreadPoolConfigSnapshot snapshot, String appName) {
+        this.configCenter = configCenter;
+        this.dynamicThreadPoolService = dynamicThreadPoolService;
+        this.snapshot = snapshot;
+        this.appName = appName;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "dynamic-thread-pool-config-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 应用本地快照并发起异步拉取，不阻塞调用线程等待配置中心
+     */
+    public void start() {
+        List<ThreadPoolConfig> cached = snapshot.load();
+        Map<String, ThreadPoolConfig> applied = new HashMap<>();
+        for (ThreadPoolConfig config : cached) {
+            if (appName.equals(config.getAppName())) {
+                dynamicThreadPoolService.updateThreadPoolConfig(config);
+                applied.put(config.getThreadPoolName(), config);
+            }
+        }
+        if (!applied.isEmpty()) {
+            log.info("[动态线程池] 已按本地快照初始化 {} 个线程池: {}", applied.size(), applied.keySet());
+        }
+        dynamicThreadPoolService.addConfigChangeListener(config -> persist());
+        schedule(() -> fetch(applied, INITIAL_RETRY_MS), 0L);
+    }
+
+    /**
+     * 按当前生效的参数异步刷新快照
+     */
+    public void persist() {
+        if (persistPending.compareAndSet(false, true)) {
+            schedule(this::writeSnapshot, 0L);
+        }
+    }
+
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void fetch(Map<String, ThreadPoolConfig> cached, long retryMs) {
+        List<ThreadPoolConfig> latest;
+        try {
+            latest = configCenter.fetchThreadPoolConfigs(appName);
+        } catch (RuntimeException e) {
+            log.warn("[动态线程池] 从配置中心拉取线程池参数失败，{} ms 后重试，当前沿用{}: {}", retryMs,
+                    cached.isEmpty() ? "默认参数" : "本地快照", e.getMessage());
+            schedule(() -> fetch(cached, Math.min(retryMs * 2, MAX_RETRY_MS)), retryMs);
+            return;
+        }
+        reconcile(cached, latest == null ? List.of() : latest);
+        writeSnapshot();
+    }
+
+    // 与快照完全一致的参数跳过，其余交给服务按版本判断是否生效
+    private void reconcile(Map<String, ThreadPoolConfig> cached, List<ThreadPoolConfig> latest) {
+        int changed = 0;
+        for (ThreadPoolConfig config : latest) {
+            ThreadPoolConfig previous = cached.get(config.getThreadPoolName());
+            if (previous != null && sameParameters(previous, config)) {
+                continue;
+            }
+            dynamicThreadPoolService.updateThreadPoolConfig(config);
+            changed++;
+        }
+        log.info("[动态线程池] 配置中心返回 {} 个线程池参数，与本地快照不一致 {} 个", latest.size(), changed);
+    }
+
+    private void writeSnapshot() {
+        persistPending.set(false);
+        List<ThreadPoolConfig> configs = new ArrayList<>();
+        for (ThreadPoolStatusAggregate status : dynamicThreadPoolService.snapshotAll()) {
+            configs.add(status.getThreadPoolConfig());
+        }
+        snapshot.save(configs);
+    }
+
+    private void schedule(Runnable task, long delayMs) {
+        try {
+            executor.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // 已关闭
+        }
+    }
+
+    // ThreadPoolConfig 的 equals 只比较线程池名称，这里逐个比较可下发的参数
+    private static boolean sameParameters(ThreadPoolConfig a, ThreadPoolConfig b) {
+        return a.getLastUpdateTime() == b.getLastUpdateTime()
+                && a.getCorePoolSize() == b.getCorePoolSize()
+                && a.getMaximumPoolSize() == b.getMaximumPoolSize()
+                && a.getKeepAliveTime() == b.getKeepAliveTime()
+                && a.isAllowCoreThreadTimeOut() == b.isAllowCoreThreadTimeOut()
+                && a.getQueueCapacity() == b.getQueueCapacity()
+                && a.getFairKeyCapacity() == b.getFairKeyCapacity()
+                && a.getLaneAgingMs() == b.getLaneAgingMs()
+                && a.getFleetMaxPoolSize() == b.getFleetMaxPoolSize()
+                && Objects.equals(a.getQueueType(), b.getQueueType())
+                && Objects.equals(a.getHandler(), b.getHandler())
+                && Objects.equals(a.getAdjustMode(), b.getAdjustMode())
+                && Objects.equals(a.getFairKeyWeights(), b.getFairKeyWeights())
+                && Objects.equals(a.getLaneCapacities(), b.getLaneCapacities())
+                && Objects.equals(a.getExecutorType(), b.getExecutorType());
+    }
+}
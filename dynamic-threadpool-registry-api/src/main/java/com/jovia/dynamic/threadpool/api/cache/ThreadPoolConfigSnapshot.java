@@ -0,0 +1,122 @@
+package com.jovia.dynamic.threadpool.api.cache;
+
+import com.jovia.dynamic.threadpool.api.codec.ThreadPoolBinaryCodec;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 线程池参数本地快照文件
+ * 格式：魔数 "DTPS" + 格式版本 + 写入时间 + 参数个数 + 每份参数的长度与 {@link ThreadPoolBinaryCodec} 编码 + CRC32 校验和。
+ * 先写临时文件再原子替换，进程在写入中途退出不会留下半个文件；校验失败或格式不认识时按没有快照处理。
+ *
+ * @author Jay
+ * @date 2025-11-23-19:50
+ */
+@Slf4j
+public class ThreadPoolConfigSnapshot {
+
+    private static final int MAGIC = 0x44545053;
+    private static final int VERSION = 1;
+
+    @Getter
+    private final Path path;
+
+    public ThreadPoolConfigSnapshot(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 读取快照，文件不存在或损坏时返回空列表
+     */
+    public List<ThreadPoolConfig> load() {
+        if (!Files.isRegularFile(path)) {
+            return Collections.emptyList();
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+            if (bytes.length < Long.BYTES) {
+                throw new IOException("文件过短");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - Long.BYTES);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("魔数不匹配");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("不支持的格式版本 " + version);
+            }
+            long savedAt = in.readLong();
+            int count = in.readInt();
+            List<ThreadPoolConfig> configs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] encoded = new byte[in.readInt()];
+                in.readFully(encoded);
+                configs.add(ThreadPoolBinaryCodec.decodeConfig(encoded));
+            }
+            if (in.readLong() != crc.getValue()) {
+                throw new IOException("校验和不匹配");
+            }
+            log.info("[动态线程池] 读取本地配置快照 {}，{} 个线程池，写入于 {}", path, configs.size(), savedAt);
+            return configs;
+        } catch (IOException | RuntimeException e) {
+            log.warn("[动态线程池] 本地配置快照 {} 不可用，忽略: {}", path, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 覆盖写入快照，失败只记录日志
+     */
+    public void save(List<ThreadPoolConfig> configs) {
+        try {
+            ByteArrayOutputStream buf = new ByteArrayOutputStream(64 * (configs.size() + 1));
+            DataOutputStream out = new DataOutputStream(buf);
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(configs.size());
+            for (ThreadPoolConfig config : configs) {
+                byte[] encoded = ThreadPoolBinaryCodec.encode(config);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buf.toByteArray());
+            out.writeLong(crc.getValue());
+
+            Path dir = path.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmp, buf.toByteArray());
+                try {
+                    Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            log.debug("[动态线程池] 写入本地配置快照 {}，{} 个线程池", path, configs.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("[动态线程池] 写入本地配置快照 {} 失败: {}", path, e.getMessage());
+        }
+    }
+}
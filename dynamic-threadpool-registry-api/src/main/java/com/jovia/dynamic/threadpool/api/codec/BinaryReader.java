@@ -0,0 +1,112 @@
+package com.jovia.dynamic.threadpool.api.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 二进制读取器，与 {@link BinaryWriter} 对应
+ * 调用方循环 {@link #nextField()} 按字段号读取，不认识的字段通过 {@link #skip()} 按线型跳过，
+ * 新版本追加的字段不影响旧版本解码
+ *
+ * @author Jay
+ * @date 2025-11-22-10:30
+ */
+public final class BinaryReader {
+
+    private final byte[] buf;
+    private int pos;
+    private int wireType;
+
+    public BinaryReader(byte[] buf, int offset) {
+        this.buf = buf;
+        this.pos = offset;
+    }
+
+    /**
+     * 读取下一个字段的 tag
+     *
+     * @return 字段号，已读完返回 -1
+     */
+    public int nextField() {
+        if (pos >= buf.length) {
+            return -1;
+        }
+        long tag = readVarint();
+        wireType = (int) (tag & 0x7);
+        return (int) (tag >>> 3);
+    }
+
+    public long readLong() {
+        expect(BinaryWriter.WIRE_VARINT);
+        long v = readVarint();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public int readInt() {
+        return (int) readLong();
+    }
+
+    public boolean readBoolean() {
+        return readLong() != 0;
+    }
+
+    public double readDouble() {
+        expect(BinaryWriter.WIRE_FIXED64);
+        return Double.longBitsToDouble(readFixed64());
+    }
+
+    public String readString() {
+        expect(BinaryWriter.WIRE_BYTES);
+        int len = (int) readVarint();
+        checkRemaining(len);
+        String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+        pos += len;
+        return s;
+    }
+
+    public void skip() {
+        switch (wireType) {
+            case BinaryWriter.WIRE_VARINT -> readVarint();
+            case BinaryWriter.WIRE_FIXED64 -> readFixed64();
+            case BinaryWriter.WIRE_BYTES -> {
+                int len = (int) readVarint();
+                checkRemaining(len);
+                pos += len;
+            }
+            default -> throw new IllegalArgumentException("unknown wire type: " + wireType);
+        }
+    }
+
+    private void expect(int type) {
+        if (wireType != type) {
+            throw new IllegalArgumentException("wire type mismatch: expected " + type + ", got " + wireType);
+        }
+    }
+
+    private long readVarint() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            checkRemaining(1);
+            byte b = buf[pos++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    private long readFixed64() {
+        checkRemaining(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits |= (buf[pos++] & 0xFFL) << (i * 8);
+        }
+        return bits;
+    }
+
+    private void checkRemaining(int n) {
+        if (n < 0 || pos + n > buf.length) {
+            throw new IllegalArgumentException("truncated input");
+        }
+    }
+}
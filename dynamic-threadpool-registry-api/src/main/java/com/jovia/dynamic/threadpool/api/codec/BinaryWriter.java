@@ -0,0 +1,95 @@
+package com.jovia.dynamic.threadpool.api.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 二进制写入器
+ * 每个字段以 tag（字段号 << 3 | 线型）开头：整数为 zigzag varint，浮点为 8 字节小端，字符串为长度前缀 UTF-8。
+ * 零值与 null 字段不写出，读取端按默认值处理
+ *
+ * @author Jay
+ * @date 2025-11-22-10:12
+ */
+public final class BinaryWriter {
+
+    static final int WIRE_VARINT = 0;
+    static final int WIRE_FIXED64 = 1;
+    static final int WIRE_BYTES = 2;
+
+    private byte[] buf;
+    private int pos;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buf = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryWriter writeRawByte(int b) {
+        ensure(1);
+        buf[pos++] = (byte) b;
+        return this;
+    }
+
+    public BinaryWriter writeLong(int field, long value) {
+        if (value != 0) {
+            writeTag(field, WIRE_VARINT);
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+        return this;
+    }
+
+    public BinaryWriter writeInt(int field, int value) {
+        return writeLong(field, value);
+    }
+
+    public BinaryWriter writeBoolean(int field, boolean value) {
+        return writeLong(field, value ? 1 : 0);
+    }
+
+    public BinaryWriter writeDouble(int field, double value) {
+        if (value != 0.0) {
+            writeTag(field, WIRE_FIXED64);
+            long bits = Double.doubleToRawLongBits(value);
+            ensure(8);
+            for (int i = 0; i < 8; i++) {
+                buf[pos++] = (byte) (bits >>> (i * 8));
+            }
+        }
+        return this;
+    }
+
+    public BinaryWriter writeString(int field, String value) {
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeTag(field, WIRE_BYTES);
+            writeVarint(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, pos);
+    }
+
+    private void writeTag(int field, int wireType) {
+        writeVarint(((long) field << 3) | wireType);
+    }
+
+    private void writeVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+    }
+
+    private void ensure(int n) {
+        if (pos + n > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, pos + n));
+        }
+    }
+}
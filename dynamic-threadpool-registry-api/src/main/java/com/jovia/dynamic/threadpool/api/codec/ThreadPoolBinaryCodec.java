@@ -0,0 +1,160 @@
+package com.jovia.dynamic.threadpool.api.codec;
+
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+
+/**
+ * 线程池参数与运行指标的紧凑二进制编码
+ * 格式：魔数 0xDB + 格式版本 + 字段序列。字段号一经分配不可复用，新增字段只追加新字段号、不升级版本；
+ * 版本号只在格式不兼容时提升。JSON 文本不会以 0xDB 开头，据此与旧版本写入的 JSON 区分。
+ *
+ * @author Jay
+ * @date 2025-11-22-10:48
+ */
+public final class ThreadPoolBinaryCodec {
+
+    public static final int MAGIC = 0xDB;
+    public static final int VERSION = 1;
+
+    private ThreadPoolBinaryCodec() {
+    }
+
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length >= 2 && (bytes[0] & 0xFF) == MAGIC;
+    }
+
+    public static byte[] encode(ThreadPoolConfig config) {
+        return header(64)
+                .writeString(1, config.getAppName())
+                .writeString(2, config.getThreadPoolName())
+                .writeInt(3, config.getCorePoolSize())
+                .writeInt(4, config.getMaximumPoolSize())
+                .writeLong(5, config.getKeepAliveTime())
+                .writeBoolean(6, config.isAllowCoreThreadTimeOut())
+                .writeString(7, config.getQueueType())
+                .writeInt(8, config.getQueueCapacity())
+                .writeString(9, config.getHandler())
+                .writeString(10, config.getAdjustMode())
+                .writeLong(11, config.getLastUpdateTime())
+                .writeInt(12, config.getFairKeyCapacity())
+                .writeString(13, config.getFairKeyWeights())
+                .writeString(14, config.getLaneCapacities())
+                .writeLong(15, config.getLaneAgingMs())
+                .writeString(16, config.getExecutorType())
+                .writeInt(17, config.getFleetMaxPoolSize())
+                .toByteArray();
+    }
+
+    public static ThreadPoolConfig decodeConfig(byte[] bytes) {
+        BinaryReader reader = reader(bytes);
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        for (int field; (field = reader.nextField()) != -1; ) {
+            switch (field) {
+                case 1 -> config.setAppName(reader.readString());
+                case 2 -> config.setThreadPoolName(reader.readString());
+                case 3 -> config.setCorePoolSize(reader.readInt());
+                case 4 -> config.setMaximumPoolSize(reader.readInt());
+                case 5 -> config.setKeepAliveTime(reader.readLong());
+                case 6 -> config.setAllowCoreThreadTimeOut(reader.readBoolean());
+                case 7 -> config.setQueueType(reader.readString());
+                case 8 -> config.setQueueCapacity(reader.readInt());
+                case 9 -> config.setHandler(reader.readString());
+                case 10 -> config.setAdjustMode(reader.readString());
+                case 11 -> config.setLastUpdateTime(reader.readLong());
+                case 12 -> config.setFairKeyCapacity(reader.readInt());
+                case 13 -> config.setFairKeyWeights(reader.readString());
+                case 14 -> config.setLaneCapacities(reader.readString());
+                case 15 -> config.setLaneAgingMs(reader.readLong());
+                case 16 -> config.setExecutorType(reader.readString());
+                case 17 -> config.setFleetMaxPoolSize(reader.readInt());
+                default -> reader.skip();
+            }
+        }
+        return config;
+    }
+
+    public static byte[] encode(ThreadPoolMetrics metrics) {
+        return header(128)
+                .writeString(1, metrics.getAppName())
+                .writeString(2, metrics.getPoolName())
+                .writeInt(3, metrics.getCorePoolSize())
+                .writeInt(4, metrics.getMaximumPoolSize())
+                .writeInt(5, metrics.getActiveCount())
+                .writeInt(6, metrics.getPoolSize())
+                .writeInt(7, metrics.getQueueSize())
+                .writeInt(8, metrics.getRemainingCapacity())
+                .writeInt(9, metrics.getLargestPoolSize())
+                .writeLong(10, metrics.getCompletedTaskCount())
+                .writeDouble(11, metrics.getEwmaTaskTime())
+                .writeDouble(12, metrics.getEwmaQueueWait())
+                .writeDouble(13, metrics.getQueueWaitP50())
+                .writeDouble(14, metrics.getQueueWaitP99())
+                .writeDouble(15, metrics.getQueueWaitP999())
+                .writeDouble(16, metrics.getTaskTimeP50())
+                .writeDouble(17, metrics.getTaskTimeP99())
+                .writeDouble(18, metrics.getTaskTimeP999())
+                .writeLong(19, metrics.getExpiredCount())
+                .writeLong(20, metrics.getStealCount())
+                .writeLong(21, metrics.getQueuedSubmissionCount())
+                .writeInt(22, metrics.getRunningThreadCount())
+                .writeDouble(23, metrics.getRejectRate())
+                .writeInt(24, metrics.getOverflowSize())
+                .writeLong(25, metrics.getRejectedCount())
+                .writeDouble(26, metrics.getThroughput())
+                .writeInt(27, metrics.getInstanceCount())
+                .toByteArray();
+    }
+
+    public static ThreadPoolMetrics decodeMetrics(byte[] bytes) {
+        BinaryReader reader = reader(bytes);
+        ThreadPoolMetrics metrics = new ThreadPoolMetrics();
+        for (int field; (field = reader.nextField()) != -1; ) {
+            switch (field) {
+                case 1 -> metrics.setAppName(reader.readString());
+                case 2 -> metrics.setPoolName(reader.readString());
+                case 3 -> metrics.setCorePoolSize(reader.readInt());
+                case 4 -> metrics.setMaximumPoolSize(reader.readInt());
+                case 5 -> metrics.setActiveCount(reader.readInt());
+                case 6 -> metrics.setPoolSize(reader.readInt());
+                case 7 -> metrics.setQueueSize(reader.readInt());
+                case 8 -> metrics.setRemainingCapacity(reader.readInt());
+                case 9 -> metrics.setLargestPoolSize(reader.readInt());
+                case 10 -> metrics.setCompletedTaskCount(reader.readLong());
+                case 11 -> metrics.setEwmaTaskTime(reader.readDouble());
+                case 12 -> metrics.setEwmaQueueWait(reader.readDouble());
+                case 13 -> metrics.setQueueWaitP50(reader.readDouble());
+                case 14 -> metrics.setQueueWaitP99(reader.readDouble());
+                case 15 -> metrics.setQueueWaitP999(reader.readDouble());
+                case 16 -> metrics.setTaskTimeP50(reader.readDouble());
+                case 17 -> metrics.setTaskTimeP99(reader.readDouble());
+                case 18 -> metrics.setTaskTimeP999(reader.readDouble());
+                case 19 -> metrics.setExpiredCount(reader.readLong());
+                case 20 -> metrics.setStealCount(reader.readLong());
+                case 21 -> metrics.setQueuedSubmissionCount(reader.readLong());
+                case 22 -> metrics.setRunningThreadCount(reader.readInt());
+                case 23 -> metrics.setRejectRate(reader.readDouble());
+                case 24 -> metrics.setOverflowSize(reader.readInt());
+                case 25 -> metrics.setRejectedCount(reader.readLong());
+                case 26 -> metrics.setThroughput(reader.readDouble());
+                case 27 -> metrics.setInstanceCount(reader.readInt());
+                default -> reader.skip();
+            }
+        }
+        return metrics;
+    }
+
+    private static BinaryWriter header(int sizeHint) {
+        return new BinaryWriter(sizeHint).writeRawByte(MAGIC).writeRawByte(VERSION);
+    }
+
+    private static BinaryReader reader(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            throw new IllegalArgumentException("not a binary thread pool payload");
+        }
+        int version = bytes[1] & 0xFF;
+        if (version > VERSION) {
+            throw new IllegalArgumentException("unsupported binary format version: " + version);
+        }
+        return new BinaryReader(bytes, 2);
+    }
+}
@@ -0,0 +1,112 @@
+package com.jovia.dynamic.threadpool.registry.redis.codec;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.jovia.dynamic.threadpool.api.codec.ThreadPoolBinaryCodec;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * 线程池参数 / 指标的 Redisson 编解码器，用于 RMap 与 RTopic
+ * 值按 {@link ThreadPoolBinaryCodec} 二进制编码；读取时兼容旧版本写入的 JSON（JsonJacksonCodec 包裹的 fastjson 字符串或裸 JSON）。
+ * Map 的 key 仍使用 JsonJacksonCodec 编码，与旧版本写入的字段名一致，新值直接覆盖旧值。
+ * 滚动升级期间可关闭二进制写入，继续写出旧格式，待所有读取方升级后再开启
+ *
+ * @author Jay
+ * @date 2025-11-22-11:20
+ */
+public class ThreadPoolRedisCodec<T> extends BaseCodec {
+
+    private static final JsonJacksonCodec LEGACY_CODEC = new JsonJacksonCodec();
+
+    private final Class<T> type;
+    private final Function<T, byte[]> binaryEncoder;
+    private final Function<byte[], T> binaryDecoder;
+    private final boolean writeBinary;
+
+    private final Encoder valueEncoder;
+    private final Decoder<Object> valueDecoder;
+
+    public static ThreadPoolRedisCodec<ThreadPoolConfig> config(boolean writeBinary) {
+        return new ThreadPoolRedisCodec<>(ThreadPoolConfig.class, ThreadPoolBinaryCodec::encode, ThreadPoolBinaryCodec::decodeConfig, writeBinary);
+    }
+
+    public static ThreadPoolRedisCodec<ThreadPoolMetrics> metrics(boolean writeBinary) {
+        return new ThreadPoolRedisCodec<>(ThreadPoolMetrics.class, ThreadPoolBinaryCodec::encode, ThreadPoolBinaryCodec::decodeMetrics, writeBinary);
+    }
+
+    private ThreadPoolRedisCodec(Class<T> type, Function<T, byte[]> binaryEncoder, Function<byte[], T> binaryDecoder, boolean writeBinary) {
+        this.type = type;
+        this.binaryEncoder = binaryEncoder;
+        this.binaryDecoder = binaryDecoder;
+        this.writeBinary = writeBinary;
+        this.valueEncoder = this::encode;
+        this.valueDecoder = (buf, state) -> decode(buf);
+    }
+
+    /**
+     * 供 {@link BaseCodec#copy} 反射调用
+     */
+    public ThreadPoolRedisCodec(ClassLoader classLoader, ThreadPoolRedisCodec<T> codec) {
+        this(codec.type, codec.binaryEncoder, codec.binaryDecoder, codec.writeBinary);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ByteBuf encode(Object in) throws IOException {
+        if (!type.isInstance(in)) {
+            throw new IllegalArgumentException("expected " + type.getSimpleName() + " but was " + in.getClass().getName());
+        }
+        if (writeBinary) {
+            return Unpooled.wrappedBuffer(binaryEncoder.apply((T) in));
+        }
+        return LEGACY_CODEC.getValueEncoder().encode(JSON.toJSONString(in));
+    }
+
+    private T decode(ByteBuf buf) {
+        byte[] bytes = ByteBufUtil.getBytes(buf);
+        buf.skipBytes(buf.readableBytes());
+        if (ThreadPoolBinaryCodec.isBinary(bytes)) {
+            return binaryDecoder.apply(bytes);
+        }
+        // 旧格式：JsonJacksonCodec 编码的 JSON 字符串，内容为 fastjson 序列化的对象；也兼容直接发布的 JSON 对象
+        Object legacy = JSON.parse(new String(bytes, StandardCharsets.UTF_8));
+        if (legacy instanceof String json) {
+            return JSON.parseObject(json, type);
+        }
+        if (legacy instanceof JSONObject object) {
+            return object.toJavaObject(type);
+        }
+        throw new IllegalArgumentException("unrecognized " + type.getSimpleName() + " payload");
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return valueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return LEGACY_CODEC.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return LEGACY_CODEC.getMapKeyEncoder();
+    }
+}
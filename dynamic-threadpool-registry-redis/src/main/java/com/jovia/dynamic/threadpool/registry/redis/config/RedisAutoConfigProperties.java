@@ -57,4 +57,20 @@ public class RedisAutoConfigProperties {
      * 设置是否保持长连接，默认为true
      */
     private boolean keepAlive = true;
+    /**
+     * 线程池参数与指标是否以二进制格式写入，默认 true；滚动升级期间设为 false 继续写出旧版本可读的 JSON
+     */
+    private boolean binaryCodec = true;
+    /**
+     * 实例标识，同一应用内唯一，默认 主机名:进程号
+     */
+    private String instanceId;
+    /**
+     * 实例心跳超时时间（单位：毫秒），超时的实例不再计入集群汇总与线程数预算，默认为30000
+     */
+    private long fleetInstanceTtlMs = 30000;
+    /**
+     * 线程池参数本地快照文件路径，默认 ${user.home}/.dynamic-thread-pool/{应用名}.snapshot
+     */
+    private String configSnapshotPath;
 }
@@ -1,16 +1,16 @@
 package com.jovia.dynamic.threadpool.registry.redis.config;
 
-import com.alibaba.fastjson2.JSON;
 import com.jovia.dynamic.threadpool.registry.redis.constant.RedisKeys;
 import com.jovia.dynamic.threadpool.registry.redis.registry.RedisConfigCenter;
+import com.jovia.dynamic.threadpool.registry.redis.trigger.job.FleetAggregationJob;
 import com.jovia.dynamic.threadpool.registry.redis.trigger.job.ThreadPoolDataReportJob;
 import com.jovia.dynamic.threadpool.registry.redis.trigger.listener.ThreadPoolConfigAdjustListener;
 import com.jovia.dynamic.threadpool.api.IRegistry;
+import com.jovia.dynamic.threadpool.api.cache.LocalFirstConfigLoader;
+import com.jovia.dynamic.threadpool.api.cache.ThreadPoolConfigSnapshot;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
 import com.jovia.dynamic.threadpool.core.service.IDynamicThreadPoolService;
-import org.apache.commons.lang3.StringUtils;
 import org.redisson.Redisson;
-import org.redisson.api.RMap;
 import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
 import org.redisson.codec.JsonJacksonCodec;
@@ -21,15 +21,13 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
-import java.util.Map;
-import java.util.Set;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -73,10 +71,24 @@ public class RedisConfig {
     }
 
     @Bean
-    public IRegistry redisRegistry(RedissonClient redisson) {
-        return new RedisConfigCenter(redisson);
+    public RedisConfigCenter redisRegistry(RedissonClient redisson) {
+        String instanceId = properties.getInstanceId() == null || properties.getInstanceId().isBlank()
+                ? RedisConfigCenter.defaultInstanceId() : properties.getInstanceId();
+        return new RedisConfigCenter(redisson, properties.isBinaryCodec(), instanceId);
     }
     
+    /**
+     * 创建时即按本地快照初始化线程池，配置中心的最新参数在后台拉取后对账，启动不等待网络
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public LocalFirstConfigLoader localFirstConfigLoader(RedisConfigCenter redisRegistry, IDynamicThreadPoolService dynamicThreadPoolService) {
+        String appName = applicationContext.getEnvironment().getProperty("spring.application.name");
+        Path path = properties.getConfigSnapshotPath() == null || properties.getConfigSnapshotPath().isBlank()
+                ? Paths.get(System.getProperty("user.home"), ".dynamic-thread-pool", appName + ".snapshot")
+                : Paths.get(properties.getConfigSnapshotPath());
+        return new LocalFirstConfigLoader(redisRegistry, dynamicThreadPoolService, new ThreadPoolConfigSnapshot(path), appName);
+    }
+
     @Bean
     public ThreadPoolConfigAdjustListener threadPoolConfigAdjustListener(IDynamicThreadPoolService dynamicThreadPoolService) {
         return new ThreadPoolConfigAdjustListener(dynamicThreadPoolService);
@@ -88,41 +100,16 @@ public class RedisConfig {
     }
     
     @Bean
-    public RTopic rTopic(RedissonClient redisson, ThreadPoolConfigAdjustListener threadPoolConfigAdjustListener) {
+    public FleetAggregationJob fleetAggregationJob(RedisConfigCenter redisRegistry, IDynamicThreadPoolService dynamicThreadPoolService) {
         String appName = applicationContext.getEnvironment().getProperty("spring.application.name");
-        RTopic topic = redisson.getTopic(RedisKeys.THREAD_POOL_CONFIG_TOPIC + appName);
-        topic.addListener(String.class, threadPoolConfigAdjustListener);
-        return topic;
+        return new FleetAggregationJob(redisRegistry, dynamicThreadPoolService, appName, properties.getFleetInstanceTtlMs());
     }
 
-    @EventListener(ApplicationReadyEvent.class)
-    public void initializeThreadPool(RedissonClient redisson) {
+    @Bean
+    public RTopic rTopic(RedissonClient redisson, RedisConfigCenter redisRegistry, ThreadPoolConfigAdjustListener threadPoolConfigAdjustListener) {
         String appName = applicationContext.getEnvironment().getProperty("spring.application.name");
-        // 动态获取 ThreadPoolExecutor Map
-        Map<String, ThreadPoolExecutor> threadPoolExecutorMap =
-                applicationContext.getBeansOfType(ThreadPoolExecutor.class);
-        // 启动时，从配置中心获取配置
-        RMap<String, String> appMap = redisson.getMap(RedisKeys.THREAD_POOL_CONFIGS + appName);
-
-        Set<String> threadPoolKeys = threadPoolExecutorMap.keySet();
-        for (String threadPoolKey : threadPoolKeys) {
-            String json = appMap.get(threadPoolKey);
-            if (StringUtils.isBlank(json)) {
-                log.warn("线程池 [{}] 未在配置中心找到配置，使用默认参数", threadPoolKey);
-                continue;
-            }
-
-            ThreadPoolConfig threadPoolConfig = JSON.parseObject(json, ThreadPoolConfig.class);
-            if (threadPoolConfig == null) continue;
-            if (threadPoolConfig.getCorePoolSize() > threadPoolConfig.getMaximumPoolSize()) {
-                log.warn("[DynamicThreadPool] 配置错误：corePoolSize > maximumPoolSize for {}", threadPoolKey);
-                continue;
-            }
-
-            log.info("初始配置:{}", JSON.toJSONString(threadPoolConfig));
-            ThreadPoolExecutor threadPoolExecutor = threadPoolExecutorMap.get(threadPoolKey);
-            threadPoolExecutor.setMaximumPoolSize(threadPoolConfig.getMaximumPoolSize());
-            threadPoolExecutor.setCorePoolSize(threadPoolConfig.getCorePoolSize());
-        }
+        RTopic topic = redisson.getTopic(RedisKeys.THREAD_POOL_CONFIG_TOPIC + appName, redisRegistry.getConfigCodec());
+        topic.addListener(ThreadPoolConfig.class, threadPoolConfigAdjustListener);
+        return topic;
     }
 }
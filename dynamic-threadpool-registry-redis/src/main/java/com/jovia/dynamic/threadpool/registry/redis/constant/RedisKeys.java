@@ -8,5 +8,10 @@ public class RedisKeys {
     
     public static final String THREAD_POOL_CONFIGS = "threadPoolConfigs:"; // 线程池配置列表
     public static final String THREAD_POOL_CONFIG_TOPIC = "threadPoolTopic:"; // 动态线程池监听主题
+    public static final String THREAD_POOL_METRICS = "threadPoolMetrics:"; // 线程池运行指标（应用内所有实例汇总）
+    public static final String THREAD_POOL_APPS = "threadPoolApps"; // 应用索引，替代按前缀扫描 key
+    public static final String THREAD_POOL_INSTANCES = "threadPoolInstances:"; // 应用实例心跳，score 为最近心跳时间
+    public static final String THREAD_POOL_INSTANCE_METRICS = "threadPoolInstanceMetrics:"; // 单个实例的线程池运行指标，+ 应用名 + ":" + 实例 id
+    public static final String THREAD_POOL_FLEET_LEASE = "threadPoolFleetLease:"; // 汇总租约，每个周期只由一个实例汇总
     
 }
@@ -0,0 +1,74 @@
+package com.jovia.dynamic.threadpool.registry.redis.registry;
+
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 集群指标汇总
+ * 把同一应用各实例上报的线程池指标按线程池合并：线程数、排队数、吞吐、拒绝等数量类指标求和，
+ * 队列等待与执行耗时等延迟类指标取各实例最大值（最差实例决定用户感知的延迟）。
+ *
+ * @author Jay
+ * @date 2025-11-23-19:20
+ */
+public final class FleetMetricsAggregator {
+
+    private FleetMetricsAggregator() {
+    }
+
+    /**
+     * @param perInstance 各实例的指标，线程池名称 -> 指标
+     * @return 线程池名称 -> 汇总指标
+     */
+    public static Map<String, ThreadPoolMetrics> merge(String appName, Collection<Map<String, ThreadPoolMetrics>> perInstance) {
+        Map<String, ThreadPoolMetrics> merged = new HashMap<>();
+        for (Map<String, ThreadPoolMetrics> instance : perInstance) {
+            instance.forEach((poolName, metrics) -> {
+                ThreadPoolMetrics total = merged.computeIfAbsent(poolName, k -> ThreadPoolMetrics.builder()
+                        .appName(appName)
+                        .poolName(poolName)
+                        .build());
+                add(total, metrics);
+            });
+        }
+        return merged;
+    }
+
+    private static void add(ThreadPoolMetrics total, ThreadPoolMetrics m) {
+        total.setCorePoolSize(sum(total.getCorePoolSize(), m.getCorePoolSize()));
+        total.setMaximumPoolSize(sum(total.getMaximumPoolSize(), m.getMaximumPoolSize()));
+        total.setActiveCount(sum(total.getActiveCount(), m.getActiveCount()));
+        total.setPoolSize(sum(total.getPoolSize(), m.getPoolSize()));
+        total.setQueueSize(sum(total.getQueueSize(), m.getQueueSize()));
+        total.setRemainingCapacity(sum(total.getRemainingCapacity(), m.getRemainingCapacity()));
+        total.setLargestPoolSize(sum(total.getLargestPoolSize(), m.getLargestPoolSize()));
+        total.setCompletedTaskCount(total.getCompletedTaskCount() + m.getCompletedTaskCount());
+        total.setExpiredCount(total.getExpiredCount() + m.getExpiredCount());
+        total.setRejectedCount(total.getRejectedCount() + m.getRejectedCount());
+        total.setStealCount(total.getStealCount() + m.getStealCount());
+        total.setQueuedSubmissionCount(total.getQueuedSubmissionCount() + m.getQueuedSubmissionCount());
+        total.setRunningThreadCount(sum(total.getRunningThreadCount(), m.getRunningThreadCount()));
+        total.setOverflowSize(sum(total.getOverflowSize(), m.getOverflowSize()));
+        total.setThroughput(total.getThroughput() + m.getThroughput());
+        total.setRejectRate(total.getRejectRate() + m.getRejectRate());
+        // 旧版本上报的指标没有实例数，按 1 个实例计
+        total.setInstanceCount(total.getInstanceCount() + Math.max(1, m.getInstanceCount()));
+
+        total.setEwmaTaskTime(Math.max(total.getEwmaTaskTime(), m.getEwmaTaskTime()));
+        total.setEwmaQueueWait(Math.max(total.getEwmaQueueWait(), m.getEwmaQueueWait()));
+        total.setQueueWaitP50(Math.max(total.getQueueWaitP50(), m.getQueueWaitP50()));
+        total.setQueueWaitP99(Math.max(total.getQueueWaitP99(), m.getQueueWaitP99()));
+        total.setQueueWaitP999(Math.max(total.getQueueWaitP999(), m.getQueueWaitP999()));
+        total.setTaskTimeP50(Math.max(total.getTaskTimeP50(), m.getTaskTimeP50()));
+        total.setTaskTimeP99(Math.max(total.getTaskTimeP99(), m.getTaskTimeP99()));
+        total.setTaskTimeP999(Math.max(total.getTaskTimeP999(), m.getTaskTimeP999()));
+    }
+
+    // 无界队列的剩余容量为 Integer.MAX_VALUE，求和会溢出
+    private static int sum(int a, int b) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) a + b);
+    }
+}
@@ -1,21 +1,36 @@
 package com.jovia.dynamic.threadpool.registry.redis.registry;
 
-import com.alibaba.fastjson.JSON;
+import com.jovia.dynamic.threadpool.registry.redis.codec.ThreadPoolRedisCodec;
 import com.jovia.dynamic.threadpool.registry.redis.constant.RedisKeys;
 import com.jovia.dynamic.threadpool.api.IConfigCenter;
 import com.jovia.dynamic.threadpool.api.IConfigChangeListener;
 import com.jovia.dynamic.threadpool.api.IRegistry;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
+import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
+import lombok.Getter;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
 import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
-import org.redisson.api.options.KeysScanOptions;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.util.CollectionUtils;
 
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * redis 注册中心
+ * 运行指标按实例写入各自的 key，由持有汇总租约的实例周期性合并为应用级指标，写回 {@link RedisKeys#THREAD_POOL_METRICS}；
+ * 实例数增加时每个实例每周期的写入量不变，汇总只由一个实例执行，Redis 负载随实例数线性增长而不是成倍放大。
+ * 应用名写入 {@link RedisKeys#THREAD_POOL_APPS} 索引，查询全部应用时不再按前缀扫描 key。
  *
  * @author Jay
  * @date 2025-10-19-16:13
@@ -23,9 +38,44 @@ import java.util.*;
 public class RedisConfigCenter implements IRegistry, IConfigCenter {
 
     private final RedissonClient redisson;
+    @Getter
+    private final ThreadPoolRedisCodec<ThreadPoolConfig> configCodec;
+    private final ThreadPoolRedisCodec<ThreadPoolMetrics> metricsCodec;
+    @Getter
+    private final String instanceId;
 
     public RedisConfigCenter(RedissonClient redisson) {
+        this(redisson, true);
+    }
+
+    /**
+     * @param binaryCodec 是否以二进制格式写入；读取始终兼容二进制与旧版本 JSON
+     */
+    public RedisConfigCenter(RedissonClient redisson, boolean binaryCodec) {
+        this(redisson, binaryCodec, defaultInstanceId());
+    }
+
+    /**
+     * @param instanceId 实例标识，同一应用内唯一
+     */
+    public RedisConfigCenter(RedissonClient redisson, boolean binaryCodec, String instanceId) {
         this.redisson = redisson;
+        this.configCodec = ThreadPoolRedisCodec.config(binaryCodec);
+        this.metricsCodec = ThreadPoolRedisCodec.metrics(binaryCodec);
+        this.instanceId = instanceId;
+    }
+
+    /**
+     * 默认实例标识：主机名:进程号
+     */
+    public static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ManagementFactory.getRuntimeMXBean().getPid();
     }
 
     @Override
@@ -35,51 +85,175 @@ public class RedisConfigCenter implements IRegistry, IConfigCenter {
         }
 
         String appName = threadPoolEntities.get(0).getAppName();
-        RMap<String, String> appMap = redisson.getMap(RedisKeys.THREAD_POOL_CONFIGS + appName);
+        RMap<String, ThreadPoolConfig> appMap = redisson.getMap(RedisKeys.THREAD_POOL_CONFIGS + appName, configCodec);
         
-        Map<String, String> map = new HashMap<>();
+        Map<String, ThreadPoolConfig> map = new HashMap<>();
         for (ThreadPoolConfig entity : threadPoolEntities) {
-            map.put(entity.getThreadPoolName(), JSON.toJSONString(entity));
+            map.put(entity.getThreadPoolName(), entity);
         }
         appMap.putAll(map);
+        redisson.getSet(RedisKeys.THREAD_POOL_APPS, StringCodec.INSTANCE).add(appName);
     }
 
     @Override
     public void reportThreadPoolConfig(ThreadPoolConfig entity) {
         if (entity == null) return;
         String appName = entity.getAppName();
-        RMap<String, String> appMap = redisson.getMap(RedisKeys.THREAD_POOL_CONFIGS + appName);
+        RMap<String, ThreadPoolConfig> appMap = redisson.getMap(RedisKeys.THREAD_POOL_CONFIGS + appName, configCodec);
+
+        appMap.fastPut(entity.getThreadPoolName(), entity);
+        redisson.getSet(RedisKeys.THREAD_POOL_APPS, StringCodec.INSTANCE).add(appName);
+    }
+
+    @Override
+    public void reportThreadPoolMetrics(List<ThreadPoolMetrics> threadPoolMetrics) {
+        if (CollectionUtils.isEmpty(threadPoolMetrics)) {
+            return;
+        }
+
+        String appName = threadPoolMetrics.get(0).getAppName();
+        RMap<String, ThreadPoolMetrics> metricsMap = redisson.getMap(instanceMetricsKey(appName), metricsCodec);
+
+        Map<String, ThreadPoolMetrics> map = new HashMap<>();
+        for (ThreadPoolMetrics metrics : threadPoolMetrics) {
+            map.put(metrics.getPoolName(), metrics);
+        }
+        metricsMap.putAll(map);
+    }
 
-        appMap.put(entity.getThreadPoolName(), JSON.toJSONString(entity));
+    /**
+     * 参数与指标写入同一个 RBatch，一个周期只产生一次管道化往返
+     */
+    @Override
+    public CompletionStage<Void> reportThreadPoolStatus(List<ThreadPoolConfig> configs, List<ThreadPoolMetrics> metrics) {
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        if (!CollectionUtils.isEmpty(configs)) {
+            Map<String, ThreadPoolConfig> map = new HashMap<>();
+            for (ThreadPoolConfig entity : configs) {
+                map.put(entity.getThreadPoolName(), entity);
+            }
+            String appName = configs.get(0).getAppName();
+            RMapAsync<String, ThreadPoolConfig> appMap = batch.getMap(RedisKeys.THREAD_POOL_CONFIGS + appName, configCodec);
+            appMap.putAllAsync(map);
+            batch.getSet(RedisKeys.THREAD_POOL_APPS, StringCodec.INSTANCE).addAsync(appName);
+        }
+        if (!CollectionUtils.isEmpty(metrics)) {
+            Map<String, ThreadPoolMetrics> map = new HashMap<>();
+            for (ThreadPoolMetrics entity : metrics) {
+                map.put(entity.getPoolName(), entity);
+            }
+            RMapAsync<String, ThreadPoolMetrics> metricsMap = batch.getMap(instanceMetricsKey(metrics.get(0).getAppName()), metricsCodec);
+            metricsMap.putAllAsync(map);
+        }
+        return batch.executeAsync().thenApply(result -> null);
     }
 
     @Override
     public void subscribeConfigChange(String appName, IConfigChangeListener listener) {
-        RTopic topic = redisson.getTopic(RedisKeys.THREAD_POOL_CONFIG_TOPIC + appName);
-        topic.addListener(String.class, (channel, msg) -> {
-            ThreadPoolConfig entity = JSON.parseObject(msg, ThreadPoolConfig.class);
-            listener.onConfigChange(entity);
-        });
+        RTopic topic = redisson.getTopic(RedisKeys.THREAD_POOL_CONFIG_TOPIC + appName, configCodec);
+        topic.addListener(ThreadPoolConfig.class, (channel, entity) -> listener.onConfigChange(entity));
     }
 
+    /**
+     * 查询应用的线程池参数，应用名为空时按应用索引查询全部应用
+     */
     @Override
     public List<ThreadPoolConfig> fetchThreadPoolConfigs(String appName) {
-        
-        // 获取所有 THREAD_POOL_CONFIGS:* 的 key
-        KeysScanOptions options = KeysScanOptions.defaults().pattern(RedisKeys.THREAD_POOL_CONFIGS + "*");
-        Iterable<String> keys = redisson.getKeys().getKeys(options);
-
+        Collection<String> appNames = appName == null || appName.isBlank() ? fetchAppNames() : List.of(appName);
         List<ThreadPoolConfig> allThreadPools = new ArrayList<>();
-
-        for (String key : keys) {
-            RMap<String, String> appMap = redisson.getMap(key);
-            Collection<String> values = appMap.values();
-
-            values.stream()
-                    .map(json -> JSON.parseObject(json, ThreadPoolConfig.class))
-                    .forEach(allThreadPools::add);
+        for (String app : appNames) {
+            RMap<String, ThreadPoolConfig> appMap = redisson.getMap(RedisKeys.THREAD_POOL_CONFIGS + app, configCodec);
+            allThreadPools.addAll(appMap.readAllValues());
         }
-        
         return allThreadPools;
     }
+
+    /**
+     * 已上报过线程池参数的应用
+     */
+    public Set<String> fetchAppNames() {
+        return redisson.<String>getSet(RedisKeys.THREAD_POOL_APPS, StringCodec.INSTANCE).readAll();
+    }
+
+    /**
+     * 应用级汇总指标，线程池名称 -> 指标
+     */
+    public Map<String, ThreadPoolMetrics> fetchFleetMetrics(String appName) {
+        return redisson.<String, ThreadPoolMetrics>getMap(RedisKeys.THREAD_POOL_METRICS + appName, metricsCodec).readAllMap();
+    }
+
+    /**
+     * 上报心跳并统计存活实例数；本实例的指标 key 随心跳续期，实例下线后自然过期
+     *
+     * @param ttlMs 心跳超过该时长未更新的实例视为下线
+     */
+    public CompletionStage<Integer> heartbeat(String appName, long ttlMs) {
+        long now = System.currentTimeMillis();
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        batch.<String>getScoredSortedSet(RedisKeys.THREAD_POOL_INSTANCES + appName, StringCodec.INSTANCE).addAsync(now, instanceId);
+        batch.getMap(instanceMetricsKey(appName), metricsCodec).expireAsync(Duration.ofMillis(ttlMs));
+        CompletionStage<Integer> live = batch.<String>getScoredSortedSet(RedisKeys.THREAD_POOL_INSTANCES + appName, StringCodec.INSTANCE)
+                .countAsync(now - ttlMs, true, Double.POSITIVE_INFINITY, true);
+        return batch.executeAsync().thenCompose(result -> live).thenApply(count -> Math.max(1, count));
+    }
+
+    /**
+     * 合并各存活实例的指标，写回应用级指标 key。
+     * 同一周期只有抢到租约的实例执行汇总，其余实例直接返回 false
+     *
+     * @param ttlMs   心跳超时时长，超时实例从实例集合中移除
+     * @param leaseMs 汇总租约时长，应略短于汇总周期
+     */
+    public CompletionStage<Boolean> aggregateFleetMetrics(String appName, long ttlMs, long leaseMs) {
+        return redisson.<String>getBucket(RedisKeys.THREAD_POOL_FLEET_LEASE + appName, StringCodec.INSTANCE)
+                .setIfAbsentAsync(instanceId, Duration.ofMillis(leaseMs))
+                .thenCompose(leader -> leader ? mergeInstances(appName, ttlMs).thenApply(v -> true)
+                        : CompletableFuture.completedFuture(false));
+    }
+
+    private CompletionStage<Void> mergeInstances(String appName, long ttlMs) {
+        RScoredSortedSet<String> instances = redisson.getScoredSortedSet(RedisKeys.THREAD_POOL_INSTANCES + appName, StringCodec.INSTANCE);
+        long expired = System.currentTimeMillis() - ttlMs;
+        return instances.removeRangeByScoreAsync(Double.NEGATIVE_INFINITY, true, expired, false)
+                .thenCompose(removed -> instances.valueRangeAsync(0, -1))
+                .thenCompose(ids -> {
+                    RBatch batch = redisson.createBatch(BatchOptions.defaults());
+                    List<CompletionStage<Map<String, ThreadPoolMetrics>>> reads = new ArrayList<>(ids.size());
+                    for (String id : ids) {
+                        RMapAsync<String, ThreadPoolMetrics> map = batch.getMap(RedisKeys.THREAD_POOL_INSTANCE_METRICS + appName + ":" + id, metricsCodec);
+                        reads.add(map.readAllMapAsync());
+                    }
+                    return batch.executeAsync().thenApply(result -> {
+                        List<Map<String, ThreadPoolMetrics>> perInstance = new ArrayList<>(reads.size());
+                        reads.forEach(read -> perInstance.add(read.toCompletableFuture().join()));
+                        return perInstance;
+                    });
+                })
+                .thenCompose(perInstance -> {
+                    Map<String, ThreadPoolMetrics> merged = FleetMetricsAggregator.merge(appName, perInstance);
+                    // 先删后写放在同一事务内，读取方不会看到空的汇总
+                    RBatch batch = redisson.createBatch(BatchOptions.defaults()
+                            .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+                    RMapAsync<String, ThreadPoolMetrics> fleet = batch.getMap(RedisKeys.THREAD_POOL_METRICS + appName, metricsCodec);
+                    fleet.deleteAsync();
+                    if (!merged.isEmpty()) {
+                        fleet.putAllAsync(merged);
+                    }
+                    return batch.executeAsync().thenApply(result -> null);
+                });
+    }
+
+    /**
+     * 实例下线：移出实例集合并删除本实例指标
+     */
+    public void deregister(String appName) {
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        batch.<String>getScoredSortedSet(RedisKeys.THREAD_POOL_INSTANCES + appName, StringCodec.INSTANCE).removeAsync(instanceId);
+        batch.getMap(instanceMetricsKey(appName), metricsCodec).deleteAsync();
+        batch.execute();
+    }
+
+    private String instanceMetricsKey(String appName) {
+        return RedisKeys.THREAD_POOL_INSTANCE_METRICS + appName + ":" + instanceId;
+    }
 }
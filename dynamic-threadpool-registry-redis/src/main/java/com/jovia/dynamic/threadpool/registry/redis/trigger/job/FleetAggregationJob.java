@@ -0,0 +1,76 @@
+package com.jovia.dynamic.threadpool.registry.redis.trigger.job;
+
+import com.jovia.dynamic.threadpool.core.service.IDynamicThreadPoolService;
+import com.jovia.dynamic.threadpool.registry.redis.registry.RedisConfigCenter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 集群协同任务
+ * 每个周期上报心跳并统计存活实例数，据此把各线程池的集群线程数预算均分给本实例；
+ * 随后竞争汇总租约，抢到租约的实例合并全部实例的指标，写出应用级汇总视图。
+ *
+ * @author Jay
+ * @date 2025-11-23-19:30
+ */
+public class FleetAggregationJob implements DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(FleetAggregationJob.class);
+
+    // 租约略短于 5 秒的调度周期，下个周期可由任意实例重新抢占
+    private static final long LEASE_MS = 4000L;
+
+    private final RedisConfigCenter registry;
+    private final IDynamicThreadPoolService dynamicThreadPoolService;
+    private final String appName;
+    private final long instanceTtlMs;
+
+    private final AtomicBoolean inFlight = new AtomicBoolean(false);
+
+    public FleetAggregationJob(RedisConfigCenter registry, IDynamicThreadPoolService dynamicThreadPoolService,
+                               String appName, long instanceTtlMs) {
+        this.registry = registry;
+        this.dynamicThreadPoolService = dynamicThreadPoolService;
+        this.appName = appName;
+        this.instanceTtlMs = instanceTtlMs;
+    }
+
+    @Scheduled(cron = "*/5 * * * * ?")
+    public void aggregate() {
+        if (!inFlight.compareAndSet(false, true)) {
+            logger.debug("[动态线程池] 上一轮集群汇总未完成，跳过本周期");
+            return;
+        }
+        try {
+            registry.heartbeat(appName, instanceTtlMs)
+                    .thenCompose(instanceCount -> {
+                        dynamicThreadPoolService.applyFleetBudget(instanceCount);
+                        return registry.aggregateFleetMetrics(appName, instanceTtlMs, LEASE_MS);
+                    })
+                    .whenComplete((leader, e) -> {
+                        if (e != null) {
+                            logger.warn("[动态线程池] 集群心跳或指标汇总失败: {}", e.getMessage());
+                        } else if (leader) {
+                            logger.debug("[动态线程池] 本实例完成集群指标汇总 app={}", appName);
+                        }
+                        inFlight.set(false);
+                    });
+        } catch (RuntimeException e) {
+            logger.warn("[动态线程池] 集群心跳或指标汇总失败: {}", e.getMessage());
+            inFlight.set(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            registry.deregister(appName);
+        } catch (RuntimeException e) {
+            logger.warn("[动态线程池] 实例下线注销失败: {}", e.getMessage());
+        }
+    }
+}
@@ -1,56 +1,148 @@
 package com.jovia.dynamic.threadpool.registry.redis.trigger.job;
 
 
-import com.alibaba.fastjson2.JSON;
 import com.jovia.dynamic.threadpool.api.IRegistry;
+import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolStatusAggregate;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolMetrics;
-import com.jovia.dynamic.threadpool.core.model.aggregate.ThreadPoolStatusAggregate;
 import com.jovia.dynamic.threadpool.core.service.IDynamicThreadPoolService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 线程池数据上报任务
+ * 每个周期采集一次全部线程池的快照，按字段哈希识别变化，只把变化的参数与指标合并为一次批量写入。
+ * 上一批尚未写完时不阻塞调度线程，本周期的变化并入待上报集合（同一线程池只保留最新一份），下个周期一起写出。
+ *
  * @author Jay
  * @date 2025-10-19-16:47
  */
 public class ThreadPoolDataReportJob {
-    
+
     private final Logger logger = LoggerFactory.getLogger(ThreadPoolDataReportJob.class);
-    private IRegistry registry;
-    private IDynamicThreadPoolService dynamicThreadPoolService;
+
+    // 每隔多少个周期全量上报一次，容忍哈希碰撞与配置中心数据丢失
+    private static final int FULL_SYNC_CYCLES = 12;
+
+    private final IRegistry registry;
+    private final IDynamicThreadPoolService dynamicThreadPoolService;
+
+    // 上一次进入上报队列的字段哈希，写入失败时移除以便重发
+    private final Map<String, Integer> lastConfigHash = new ConcurrentHashMap<>();
+    private final Map<String, Integer> lastMetricsHash = new ConcurrentHashMap<>();
+
+    // 待上报的变化，仅由调度线程访问
+    private final Map<String, ThreadPoolConfig> pendingConfigs = new HashMap<>();
+    private final Map<String, ThreadPoolMetrics> pendingMetrics = new HashMap<>();
+
+    private final AtomicBoolean inFlight = new AtomicBoolean(false);
+    private int cycle = 0;
+    private long coalescedSamples = 0L;
 
     public ThreadPoolDataReportJob(IRegistry registry, IDynamicThreadPoolService dynamicThreadPoolService) {
         this.registry = registry;
         this.dynamicThreadPoolService = dynamicThreadPoolService;
     }
 
-    // 保存上一次上报的配置，用于检测变化
-    private final Map<String, ThreadPoolStatusAggregate> lastReported = new ConcurrentHashMap<>();
-    
     @Scheduled(cron = "*/5 * * * * ?")
     public void report() {
+        if (++cycle % FULL_SYNC_CYCLES == 0) {
+            lastConfigHash.clear();
+            lastMetricsHash.clear();
+        }
+
+        for (ThreadPoolStatusAggregate status : dynamicThreadPoolService.snapshotAll()) {
+            ThreadPoolConfig config = status.getThreadPoolConfig();
+            String poolName = config.getThreadPoolName();
+            int configHash = configHash(config);
+            if (!Integer.valueOf(configHash).equals(lastConfigHash.put(poolName, configHash))) {
+                pendingConfigs.put(poolName, config);
+            }
 
-        List<ThreadPoolStatusAggregate> currentList  = dynamicThreadPoolService.queryAllThreadPools();
-
-        for (ThreadPoolStatusAggregate current : currentList) {
-            
-            ThreadPoolConfig config = current.getThreadPoolConfig();
-            ThreadPoolMetrics metrics = current.getThreadPoolMetrics();
-            
-            ThreadPoolStatusAggregate last = lastReported.get(config.getThreadPoolName());
-            if (last == null || !Objects.equals(current, last)) {
-                registry.reportThreadPoolConfig(config);
-                lastReported.put(config.getThreadPoolName(), current);
-                logger.info("检测到线程池配置变更，上报: {}", JSON.toJSONString(current));
+            ThreadPoolMetrics metrics = status.getThreadPoolMetrics();
+            int metricsHash = metricsHash(metrics);
+            if (!Integer.valueOf(metricsHash).equals(lastMetricsHash.put(poolName, metricsHash))
+                    && pendingMetrics.put(poolName, metrics) != null) {
+                coalescedSamples++;
             }
         }
+
+        if (inFlight.get()) {
+            logger.debug("[动态线程池] 上一批上报未完成，本周期变化合并到下一批, 已合并指标样本 {}", coalescedSamples);
+            return;
+        }
+        flush();
+    }
+
+    private void flush() {
+        if (pendingConfigs.isEmpty() && pendingMetrics.isEmpty()) {
+            return;
+        }
+        List<ThreadPoolConfig> configs = new ArrayList<>(pendingConfigs.values());
+        List<ThreadPoolMetrics> metrics = new ArrayList<>(pendingMetrics.values());
+        pendingConfigs.clear();
+        pendingMetrics.clear();
+        if (!configs.isEmpty()) {
+            logger.info("[动态线程池] 检测到线程池配置变更，上报 {} 个", configs.size());
+        }
+
+        inFlight.set(true);
+        try {
+            registry.reportThreadPoolStatus(configs, metrics).whenComplete((result, e) -> {
+                if (e != null) {
+                    retryNextCycle(configs, metrics, e);
+                }
+                inFlight.set(false);
+            });
+        } catch (RuntimeException e) {
+            retryNextCycle(configs, metrics, e);
+            inFlight.set(false);
+        }
+    }
+
+    // ThreadPoolConfig 的 equals/hashCode 只比较线程池名称，这里按可变参数计算
+    private static int configHash(ThreadPoolConfig config) {
+        return Objects.hash(config.getCorePoolSize(), config.getMaximumPoolSize(), config.getKeepAliveTime(),
+                config.isAllowCoreThreadTimeOut(), config.getQueueType(), config.getQueueCapacity(),
+                config.getHandler(), config.getAdjustMode(), config.getFairKeyCapacity(), config.getFairKeyWeights(),
+                config.getLaneCapacities(), config.getLaneAgingMs(), config.getExecutorType(),
+                config.getFleetMaxPoolSize());
+    }
+
+    // 空闲线程池的 EWMA 每秒按比例衰减但不会归零，直接比较原始浮点值会让每个周期都判为变化；
+    // 延迟按 0.1ms、速率按 0.01/s 取整后再计算
+    private static int metricsHash(ThreadPoolMetrics m) {
+        return Objects.hash(m.getCorePoolSize(), m.getMaximumPoolSize(), m.getActiveCount(), m.getPoolSize(),
+                m.getQueueSize(), m.getRemainingCapacity(), m.getLargestPoolSize(), m.getCompletedTaskCount(),
+                m.getExpiredCount(), m.getStealCount(), m.getQueuedSubmissionCount(), m.getRunningThreadCount(),
+                m.getOverflowSize(), m.getRejectedCount(), m.getInstanceCount(),
+                millis(m.getEwmaTaskTime()), millis(m.getEwmaQueueWait()),
+                millis(m.getQueueWaitP50()), millis(m.getQueueWaitP99()), millis(m.getQueueWaitP999()),
+                millis(m.getTaskTimeP50()), millis(m.getTaskTimeP99()), millis(m.getTaskTimeP999()),
+                perSecond(m.getRejectRate()), perSecond(m.getThroughput()));
+    }
+
+    private static long millis(double ms) {
+        return Math.round(ms * 10);
+    }
+
+    private static long perSecond(double rate) {
+        return Math.round(rate * 100);
+    }
+
+    // 清除对应哈希，下个周期重新识别为变化
+    private void retryNextCycle(List<ThreadPoolConfig> configs, List<ThreadPoolMetrics> metrics, Throwable e) {
+        logger.warn("[动态线程池] 线程池数据上报失败，下个周期重试: {}", e.getMessage());
+        configs.forEach(config -> lastConfigHash.remove(config.getThreadPoolName()));
+        metrics.forEach(m -> lastMetricsHash.remove(m.getPoolName()));
     }
 }
@@ -1,6 +1,5 @@
 package com.jovia.dynamic.threadpool.registry.redis.trigger.listener;
 
-import com.alibaba.fastjson.JSON;
 import com.jovia.dynamic.threadpool.core.model.entity.ThreadPoolConfig;
 import com.jovia.dynamic.threadpool.core.service.IDynamicThreadPoolService;
 import org.redisson.api.listener.MessageListener;
@@ -11,7 +10,7 @@ import org.slf4j.LoggerFactory;
  * @author Jay
  * @date 2025-10-19-20:51
  */
-public class ThreadPoolConfigAdjustListener implements MessageListener<String> {
+public class ThreadPoolConfigAdjustListener implements MessageListener<ThreadPoolConfig> {
 
     private final Logger logger = LoggerFactory.getLogger(ThreadPoolConfigAdjustListener.class);
     
@@ -22,9 +21,7 @@ public class ThreadPoolConfigAdjustListener implements MessageListener<String> {
     }
 
     @Override
-    public void onMessage(CharSequence channel, String msg) {
-        ThreadPoolConfig config = JSON.parseObject(msg, ThreadPoolConfig.class);
-
+    public void onMessage(CharSequence channel, ThreadPoolConfig config) {
         logger.info("动态线程池 {} 配置更新, corePoolSize:{}, maximumPoolSize:{}", config.getThreadPoolName(), config.getCorePoolSize(), config.getMaximumPoolSize());
         dynamicThreadPoolService.updateThreadPoolConfig(config);
     }